@@ -1,5 +1,7 @@
 package com.mycompany.myapp.config;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +15,84 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Search search = new Search();
+
+    private final Stats stats = new Stats();
+
+    private final Export export = new Export();
+
+    private final Events events = new Events();
+
+    private final Outbox outbox = new Outbox();
+
+    private final Mail mail = new Mail();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final Async async = new Async();
+
+    private final JwtCache jwtCache = new JwtCache();
+
+    private final Login login = new Login();
+
+    private final Cache cache = new Cache();
+
+    private final WarmUp warmUp = new WarmUp();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Search getSearch() {
+        return search;
+    }
+
+    public Stats getStats() {
+        return stats;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
+    public Events getEvents() {
+        return events;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
+    public Login getLogin() {
+        return login;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +107,719 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Search {
+
+        /**
+         * Directory of the ticket full-text index. When not set, the index is kept in memory and rebuilt at startup.
+         */
+        private String indexDirectory;
+
+        /**
+         * Number of tickets read per transaction when rebuilding the index.
+         */
+        private int reindexChunkSize = 500;
+
+        /**
+         * Delay between two durable commits of the index, in milliseconds.
+         */
+        private long commitIntervalMs = 10000;
+
+        public String getIndexDirectory() {
+            return indexDirectory;
+        }
+
+        public void setIndexDirectory(String indexDirectory) {
+            this.indexDirectory = indexDirectory;
+        }
+
+        public int getReindexChunkSize() {
+            return reindexChunkSize;
+        }
+
+        public void setReindexChunkSize(int reindexChunkSize) {
+            this.reindexChunkSize = reindexChunkSize;
+        }
+
+        public long getCommitIntervalMs() {
+            return commitIntervalMs;
+        }
+
+        public void setCommitIntervalMs(long commitIntervalMs) {
+            this.commitIntervalMs = commitIntervalMs;
+        }
+    }
+
+    public static class Stats {
+
+        /**
+         * Delay between two reconciliations of the ticket counters with the database, in milliseconds.
+         */
+        private long reconcileIntervalMs = 300000;
+
+        public long getReconcileIntervalMs() {
+            return reconcileIntervalMs;
+        }
+
+        public void setReconcileIntervalMs(long reconcileIntervalMs) {
+            this.reconcileIntervalMs = reconcileIntervalMs;
+        }
+    }
+
+    public static class Export {
+
+        /**
+         * Number of rows fetched per database round trip when exporting tickets. Not used on MySQL, where the export
+         * streams its rows one by one instead.
+         */
+        private int fetchSize = 500;
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+    }
+
+    public static class Events {
+
+        /**
+         * Number of ticket events buffered per subscriber; a subscriber falling further behind is disconnected.
+         */
+        private int bufferSize = 256;
+
+        /**
+         * Maximum number of threads writing ticket events, each to one subscriber at a time; a subscriber with events
+         * to send while they are all busy is disconnected.
+         */
+        private int dispatchThreads = 32;
+
+        /**
+         * Delay between two heartbeats sent to idle subscribers, in milliseconds.
+         */
+        private long heartbeatIntervalMs = 15000;
+
+        /**
+         * Duration after which a subscription is closed, in milliseconds; clients are expected to reconnect.
+         */
+        private long timeoutMs = 1800000;
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getDispatchThreads() {
+            return dispatchThreads;
+        }
+
+        public void setDispatchThreads(int dispatchThreads) {
+            this.dispatchThreads = dispatchThreads;
+        }
+
+        public long getHeartbeatIntervalMs() {
+            return heartbeatIntervalMs;
+        }
+
+        public void setHeartbeatIntervalMs(long heartbeatIntervalMs) {
+            this.heartbeatIntervalMs = heartbeatIntervalMs;
+        }
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+    }
+
+    public static class Outbox {
+
+        /**
+         * Maximum number of ticket outbox entries relayed per transaction.
+         */
+        private int relayBatchSize = 500;
+
+        /**
+         * Delay between two runs of the ticket outbox relay, in milliseconds.
+         */
+        private long relayIntervalMs = 1000;
+
+        /**
+         * Duration relayed entries are kept for consumers of the change feed, in milliseconds.
+         */
+        private long retentionMs = 7L * 24 * 60 * 60 * 1000;
+
+        /**
+         * Maximum number of sequence numbers covered by a single pruning statement.
+         */
+        private int pruneChunkSize = 5000;
+
+        /**
+         * Delay between two prunings of relayed entries, in milliseconds.
+         */
+        private long pruneIntervalMs = 3600000;
+
+        public int getRelayBatchSize() {
+            return relayBatchSize;
+        }
+
+        public void setRelayBatchSize(int relayBatchSize) {
+            this.relayBatchSize = relayBatchSize;
+        }
+
+        public long getRelayIntervalMs() {
+            return relayIntervalMs;
+        }
+
+        public void setRelayIntervalMs(long relayIntervalMs) {
+            this.relayIntervalMs = relayIntervalMs;
+        }
+
+        public long getRetentionMs() {
+            return retentionMs;
+        }
+
+        public void setRetentionMs(long retentionMs) {
+            this.retentionMs = retentionMs;
+        }
+
+        public int getPruneChunkSize() {
+            return pruneChunkSize;
+        }
+
+        public void setPruneChunkSize(int pruneChunkSize) {
+            this.pruneChunkSize = pruneChunkSize;
+        }
+
+        public long getPruneIntervalMs() {
+            return pruneIntervalMs;
+        }
+
+        public void setPruneIntervalMs(long pruneIntervalMs) {
+            this.pruneIntervalMs = pruneIntervalMs;
+        }
+    }
+
+    public static class Mail {
+
+        /**
+         * Maximum number of mails sent over a single SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Delay between two runs of the mail sender, in milliseconds.
+         */
+        private long drainIntervalMs = 5000;
+
+        /**
+         * Time after which a mail whose sending was interrupted is attempted again, in milliseconds.
+         */
+        private long leaseMs = 300000;
+
+        /**
+         * Number of attempts after which a mail is given up on, and kept with the {@code FAILED} status until pruned.
+         */
+        private int maxAttempts = 10;
+
+        /**
+         * Delay before the first retry of a mail, doubled after each failed attempt, in milliseconds.
+         */
+        private long initialBackoffMs = 60000;
+
+        /**
+         * Maximum delay between two attempts to send a mail, in milliseconds.
+         */
+        private long maxBackoffMs = 3600000;
+
+        /**
+         * Maximum number of SMTP connections open at a time.
+         */
+        private int maxConnections = 1;
+
+        /**
+         * Duration mails given up on are kept for diagnosis, in milliseconds. Their content may hold activation and
+         * password reset links, so this should not be longer than needed.
+         */
+        private long failedRetentionMs = 7L * 24 * 60 * 60 * 1000;
+
+        /**
+         * Maximum number of mails deleted by a single pruning statement.
+         */
+        private int pruneChunkSize = 500;
+
+        /**
+         * Delay between two prunings of mails given up on, in milliseconds.
+         */
+        private long pruneIntervalMs = 3600000;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getDrainIntervalMs() {
+            return drainIntervalMs;
+        }
+
+        public void setDrainIntervalMs(long drainIntervalMs) {
+            this.drainIntervalMs = drainIntervalMs;
+        }
+
+        public long getLeaseMs() {
+            return leaseMs;
+        }
+
+        public void setLeaseMs(long leaseMs) {
+            this.leaseMs = leaseMs;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public long getInitialBackoffMs() {
+            return initialBackoffMs;
+        }
+
+        public void setInitialBackoffMs(long initialBackoffMs) {
+            this.initialBackoffMs = initialBackoffMs;
+        }
+
+        public long getMaxBackoffMs() {
+            return maxBackoffMs;
+        }
+
+        public void setMaxBackoffMs(long maxBackoffMs) {
+            this.maxBackoffMs = maxBackoffMs;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public long getFailedRetentionMs() {
+            return failedRetentionMs;
+        }
+
+        public void setFailedRetentionMs(long failedRetentionMs) {
+            this.failedRetentionMs = failedRetentionMs;
+        }
+
+        public int getPruneChunkSize() {
+            return pruneChunkSize;
+        }
+
+        public void setPruneChunkSize(int pruneChunkSize) {
+            this.pruneChunkSize = pruneChunkSize;
+        }
+
+        public long getPruneIntervalMs() {
+            return pruneIntervalMs;
+        }
+
+        public void setPruneIntervalMs(long pruneIntervalMs) {
+            this.pruneIntervalMs = pruneIntervalMs;
+        }
+    }
+
+    public static class VirtualThreads {
+
+        /**
+         * Maximum number of database connections borrowed at a time when running on virtual threads, {@code 0} for
+         * the maximum size of the connection pool.
+         */
+        private int datasourcePermits = 0;
+
+        /**
+         * Time to wait for a database connection permit before failing, in milliseconds.
+         */
+        private long datasourceAcquireTimeoutMs = 30000;
+
+        public int getDatasourcePermits() {
+            return datasourcePermits;
+        }
+
+        public void setDatasourcePermits(int datasourcePermits) {
+            this.datasourcePermits = datasourcePermits;
+        }
+
+        public long getDatasourceAcquireTimeoutMs() {
+            return datasourceAcquireTimeoutMs;
+        }
+
+        public void setDatasourceAcquireTimeoutMs(long datasourceAcquireTimeoutMs) {
+            this.datasourceAcquireTimeoutMs = datasourceAcquireTimeoutMs;
+        }
+    }
+
+    public static class Async {
+
+        public enum RejectionPolicy {
+            /**
+             * Fail the submission of a task when the queue is full.
+             */
+            ABORT,
+            /**
+             * Run a task in the submitting thread when the queue is full.
+             */
+            CALLER_RUNS,
+        }
+
+        /**
+         * What to do with tasks submitted to the async task executor while its queue is full.
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        /**
+         * Age of the oldest queued task above which the async task executor is reported out of service, in
+         * milliseconds.
+         */
+        private long maxQueueAgeMs = 10000;
+
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+
+        public long getMaxQueueAgeMs() {
+            return maxQueueAgeMs;
+        }
+
+        public void setMaxQueueAgeMs(long maxQueueAgeMs) {
+            this.maxQueueAgeMs = maxQueueAgeMs;
+        }
+    }
+
+    public static class JwtCache {
+
+        /**
+         * Maximum number of verified JWTs kept in memory.
+         */
+        private int maxSize = 10000;
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    public static class Login {
+
+        /**
+         * Cost of the BCrypt password hashes, as a log2 of the number of rounds; passwords hashed with a lower cost are
+         * rehashed on the next successful login.
+         */
+        private int bcryptStrength = 10;
+
+        /**
+         * Number of threads hashing passwords, {@code 0} for half the available processors.
+         */
+        private int hashingThreads = 0;
+
+        /**
+         * Maximum number of passwords waiting for a hashing thread.
+         */
+        private int hashingQueueCapacity = 100;
+
+        /**
+         * Maximum time a password waits for a hashing thread before the login is rejected, in milliseconds.
+         */
+        private long hashingQueueTimeoutMs = 2000;
+
+        /**
+         * Number of login attempts allowed in a burst for a given login.
+         */
+        private int loginBurst = 10;
+
+        /**
+         * Number of login attempts allowed per minute for a given login, once its burst is spent.
+         */
+        private int loginAttemptsPerMinute = 10;
+
+        /**
+         * Number of login attempts allowed in a burst from a given client address.
+         */
+        private int clientBurst = 50;
+
+        /**
+         * Number of login attempts allowed per minute from a given client address, once its burst is spent.
+         */
+        private int clientAttemptsPerMinute = 50;
+
+        /**
+         * Maximum number of logins, and of client addresses, whose attempts are tracked.
+         */
+        private int maxTrackedKeys = 100000;
+
+        public int getBcryptStrength() {
+            return bcryptStrength;
+        }
+
+        public void setBcryptStrength(int bcryptStrength) {
+            this.bcryptStrength = bcryptStrength;
+        }
+
+        public int getHashingThreads() {
+            return hashingThreads;
+        }
+
+        public void setHashingThreads(int hashingThreads) {
+            this.hashingThreads = hashingThreads;
+        }
+
+        public int getHashingQueueCapacity() {
+            return hashingQueueCapacity;
+        }
+
+        public void setHashingQueueCapacity(int hashingQueueCapacity) {
+            this.hashingQueueCapacity = hashingQueueCapacity;
+        }
+
+        public long getHashingQueueTimeoutMs() {
+            return hashingQueueTimeoutMs;
+        }
+
+        public void setHashingQueueTimeoutMs(long hashingQueueTimeoutMs) {
+            this.hashingQueueTimeoutMs = hashingQueueTimeoutMs;
+        }
+
+        public int getLoginBurst() {
+            return loginBurst;
+        }
+
+        public void setLoginBurst(int loginBurst) {
+            this.loginBurst = loginBurst;
+        }
+
+        public int getLoginAttemptsPerMinute() {
+            return loginAttemptsPerMinute;
+        }
+
+        public void setLoginAttemptsPerMinute(int loginAttemptsPerMinute) {
+            this.loginAttemptsPerMinute = loginAttemptsPerMinute;
+        }
+
+        public int getClientBurst() {
+            return clientBurst;
+        }
+
+        public void setClientBurst(int clientBurst) {
+            this.clientBurst = clientBurst;
+        }
+
+        public int getClientAttemptsPerMinute() {
+            return clientAttemptsPerMinute;
+        }
+
+        public void setClientAttemptsPerMinute(int clientAttemptsPerMinute) {
+            this.clientAttemptsPerMinute = clientAttemptsPerMinute;
+        }
+
+        public int getMaxTrackedKeys() {
+            return maxTrackedKeys;
+        }
+
+        public void setMaxTrackedKeys(int maxTrackedKeys) {
+            this.maxTrackedKeys = maxTrackedKeys;
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Settings of the cache regions, by name; settings left out fall back to {@code jhipster.cache.ehcache}.
+         * Names containing dots, such as entity regions, must be bracketed: {@code "[com.mycompany.myapp.domain.Ticket]"}.
+         */
+        private final Map<String, Region> regions = new LinkedHashMap<>();
+
+        /**
+         * Directory of the disk tiers, emptied on shutdown; required by regions with a disk tier. It is locked by the
+         * application, so every instance needs its own.
+         */
+        private String diskDirectory;
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public String getDiskDirectory() {
+            return diskDirectory;
+        }
+
+        public void setDiskDirectory(String diskDirectory) {
+            this.diskDirectory = diskDirectory;
+        }
+
+        /**
+         * @param name the name of a cache region.
+         * @return the settings of the region, empty if it has none.
+         */
+        public Region getRegion(String name) {
+            return regions.getOrDefault(name, new Region());
+        }
+
+        public static class Region {
+
+            /**
+             * Maximum number of entries kept on the heap.
+             */
+            private Integer maxEntries;
+
+            /**
+             * Maximum size of the serialized entries kept off the heap, in bytes; no off-heap tier when not set.
+             */
+            private Long maxOffHeapBytes;
+
+            /**
+             * Maximum size of the serialized entries kept in the disk directory, in bytes; no disk tier when not set.
+             * Must be larger than the off-heap tier. Entries are not kept across restarts. The regions holding users and
+             * principals cannot have one.
+             */
+            private Long maxDiskBytes;
+
+            /**
+             * Time after which an entry expires once written, in seconds.
+             */
+            private Long timeToLiveSeconds;
+
+            /**
+             * Time after which an entry expires once last read or written, in seconds; replaces the time to live when set.
+             */
+            private Long timeToIdleSeconds;
+
+            public Integer getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Integer maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Long getMaxOffHeapBytes() {
+                return maxOffHeapBytes;
+            }
+
+            public void setMaxOffHeapBytes(Long maxOffHeapBytes) {
+                this.maxOffHeapBytes = maxOffHeapBytes;
+            }
+
+            public Long getMaxDiskBytes() {
+                return maxDiskBytes;
+            }
+
+            public void setMaxDiskBytes(Long maxDiskBytes) {
+                this.maxDiskBytes = maxDiskBytes;
+            }
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public Long getTimeToIdleSeconds() {
+                return timeToIdleSeconds;
+            }
+
+            public void setTimeToIdleSeconds(Long timeToIdleSeconds) {
+                this.timeToIdleSeconds = timeToIdleSeconds;
+            }
+        }
+    }
+
+    public static class WarmUp {
+
+        /**
+         * Whether to warm up the caches and the database before the application accepts traffic.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of pages of the ticket list, and of slices of the newest tickets, to load.
+         */
+        private int ticketPages = 5;
+
+        /**
+         * Number of tickets per page, as requested by the client application.
+         */
+        private int pageSize = 20;
+
+        /**
+         * Maximum number of users, among the owners of the newest tickets, whose principal and account to load.
+         */
+        private int maxUsers = 100;
+
+        /**
+         * Time after which the remaining warm-up steps are skipped, in milliseconds.
+         */
+        private long maxDurationMs = 60000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getTicketPages() {
+            return ticketPages;
+        }
+
+        public void setTicketPages(int ticketPages) {
+            this.ticketPages = ticketPages;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getMaxUsers() {
+            return maxUsers;
+        }
+
+        public void setMaxUsers(int maxUsers) {
+            this.maxUsers = maxUsers;
+        }
+
+        public long getMaxDurationMs() {
+            return maxDurationMs;
+        }
+
+        public void setMaxDurationMs(long maxDurationMs) {
+            this.maxDurationMs = maxDurationMs;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
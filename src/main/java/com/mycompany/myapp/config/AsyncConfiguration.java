@@ -1,18 +1,23 @@
 package com.mycompany.myapp.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
 
 @Configuration
@@ -23,22 +28,76 @@ public class AsyncConfiguration implements AsyncConfigurer {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncConfiguration.class);
 
+    private static final String TASK_EXECUTOR_NAME = "taskExecutor";
+
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    private final Environment env;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The pool behind the task executor. Not exposed as a bean itself, as its lifecycle is managed by the
+     * {@link ExceptionHandlingAsyncTaskExecutor} wrapping it.
+     */
+    private MonitoredThreadPoolTaskExecutor threadPoolTaskExecutor;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        Environment env,
+        MeterRegistry meterRegistry
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.applicationProperties = applicationProperties;
+        this.env = env;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
-    @Bean(name = "taskExecutor")
+    @Bean(name = TASK_EXECUTOR_NAME)
     public Executor getAsyncExecutor() {
-        LOG.debug("Creating Async Task Executor");
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
-        executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
-        executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
-        executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
-        return new ExceptionHandlingAsyncTaskExecutor(executor);
+        if (Threading.VIRTUAL.isActive(env)) {
+            LOG.debug("Creating Async Task Executor on virtual threads");
+            // One virtual thread per task: the blocking resources they use are bounded instead
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(taskExecutionProperties.getThreadNamePrefix());
+            executor.setVirtualThreads(true);
+            return new ExceptionHandlingAsyncTaskExecutor(executor);
+        }
+        return new ExceptionHandlingAsyncTaskExecutor(threadPoolTaskExecutor());
+    }
+
+    @Bean
+    public TaskExecutorHealthIndicator taskExecutorHealthIndicator() {
+        MonitoredThreadPoolTaskExecutor executor = Threading.VIRTUAL.isActive(env) ? null : threadPoolTaskExecutor();
+        return new TaskExecutorHealthIndicator(executor, applicationProperties.getAsync().getMaxQueueAgeMs());
+    }
+
+    private synchronized MonitoredThreadPoolTaskExecutor threadPoolTaskExecutor() {
+        if (threadPoolTaskExecutor == null) {
+            LOG.debug("Creating Async Task Executor");
+            MonitoredThreadPoolTaskExecutor executor = new MonitoredThreadPoolTaskExecutor(
+                TASK_EXECUTOR_NAME,
+                rejectionPolicy(applicationProperties.getAsync().getRejectionPolicy()),
+                meterRegistry
+            );
+            executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
+            executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
+            executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
+            executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
+            threadPoolTaskExecutor = executor;
+        }
+        return threadPoolTaskExecutor;
+    }
+
+    private static RejectedExecutionHandler rejectionPolicy(ApplicationProperties.Async.RejectionPolicy policy) {
+        return switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            // Slows down the producers to the pace of the pool, instead of failing them
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+        };
     }
 
     @Override
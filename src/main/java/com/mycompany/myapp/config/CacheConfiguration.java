@@ -1,10 +1,31 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.management.ProvidedStatisticsServiceFactory;
+import com.mycompany.myapp.security.DomainUserDetailsService;
+import com.mycompany.myapp.security.PrincipalSnapshot;
+import java.io.Serializable;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.core.internal.statistics.DefaultStatisticsService;
+import org.ehcache.impl.config.persistence.CacheManagerPersistenceConfiguration;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.spi.serialization.Serializer;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
 import org.springframework.cache.annotation.EnableCaching;
@@ -17,29 +38,77 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final Set<String> CREDENTIAL_REGIONS = Set.of(
+        DomainUserDetailsService.PRINCIPALS_BY_LOGIN_CACHE,
+        DomainUserDetailsService.PRINCIPALS_BY_EMAIL_CACHE,
+        com.mycompany.myapp.repository.UserRepository.USERS_BY_LOGIN_CACHE,
+        com.mycompany.myapp.repository.UserRepository.USERS_BY_EMAIL_CACHE
+    );
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final ApplicationProperties.Cache cacheProperties;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.cacheProperties = applicationProperties.getCache();
+    }
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
 
-        jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
-            CacheConfigurationBuilder.newCacheConfigurationBuilder(
-                Object.class,
-                Object.class,
-                ResourcePoolsBuilder.heap(ehcache.getMaxEntries())
-            )
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                .build()
+    /**
+     * Cache manager with a statistics service of its own, read by the cache region statistics, and able to spill regions
+     * to disk when a disk directory is set.
+     */
+    @Bean
+    public javax.cache.CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> cacheManagerCustomizers) {
+        EhcacheCachingProvider cachingProvider = (EhcacheCachingProvider) Caching.getCachingProvider(
+            EhcacheCachingProvider.class.getName()
+        );
+        List<ServiceCreationConfiguration<?, ?>> services = new ArrayList<>();
+        services.add(new ProvidedStatisticsServiceFactory.ProvidedStatisticsService(new DefaultStatisticsService()));
+        if (cacheProperties.getDiskDirectory() != null) {
+            services.add(new CacheManagerPersistenceConfiguration(Path.of(cacheProperties.getDiskDirectory()).toFile()));
+        }
+        javax.cache.CacheManager cm = cachingProvider.getCacheManager(
+            cachingProvider.getDefaultURI(),
+            new DefaultConfiguration(getClass().getClassLoader(), services.toArray(ServiceCreationConfiguration<?, ?>[]::new))
         );
+        try {
+            cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(cm));
+        } catch (RuntimeException e) {
+            // Release the disk directory, the provider would otherwise hand out this half-configured manager again
+            cm.close();
+            throw e;
+        }
+        return cm;
     }
 
     @Bean
     public JCacheManagerCustomizer cacheManagerCustomizer() {
         return cm -> {
+            createCache(cm, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+            createCache(cm, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
             createCache(cm, com.mycompany.myapp.repository.UserRepository.USERS_BY_LOGIN_CACHE);
             createCache(cm, com.mycompany.myapp.repository.UserRepository.USERS_BY_EMAIL_CACHE);
+            createCache(
+                cm,
+                DomainUserDetailsService.PRINCIPALS_BY_LOGIN_CACHE,
+                String.class,
+                PrincipalSnapshot.class,
+                new PrincipalSnapshotSerializer()
+            );
+            createCache(
+                cm,
+                DomainUserDetailsService.PRINCIPALS_BY_EMAIL_CACHE,
+                String.class,
+                PrincipalSnapshot.class,
+                new PrincipalSnapshotSerializer()
+            );
             createCache(cm, com.mycompany.myapp.domain.Authority.class.getName());
             createCache(cm, com.mycompany.myapp.domain.Ticket.class.getName());
             createCache(cm, com.mycompany.myapp.domain.TicketCategory.class.getName());
@@ -49,12 +118,68 @@ public class CacheConfiguration {
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        // Users and the second-level cache entries of the entities are Serializable
+        createCache(cm, cacheName, Object.class, Object.class, new PlainJavaSerializer<>(getClass().getClassLoader()));
+    }
+
+    private <K, V> void createCache(
+        javax.cache.CacheManager cm,
+        String cacheName,
+        Class<K> keyType,
+        Class<V> valueType,
+        Serializer<V> valueSerializer
+    ) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(
+                cacheName,
+                Eh107Configuration.fromEhcacheCacheConfiguration(regionConfiguration(cacheName, keyType, valueType, valueSerializer))
+            );
+        }
+        // Hits, misses, puts and evictions are read by the cache metrics from the JCache statistics
+        cm.enableStatistics(cacheName, true);
+    }
+
+    private <K, V> CacheConfigurationBuilder<K, V> regionConfiguration(
+        String cacheName,
+        Class<K> keyType,
+        Class<V> valueType,
+        Serializer<V> valueSerializer
+    ) {
+        ApplicationProperties.Cache.Region region = cacheProperties.getRegion(cacheName);
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(
+            region.getMaxEntries() != null ? region.getMaxEntries() : ehcache.getMaxEntries()
+        );
+        if (region.getMaxOffHeapBytes() != null) {
+            resourcePools = resourcePools.offheap(region.getMaxOffHeapBytes(), MemoryUnit.B);
+        }
+        if (region.getMaxDiskBytes() != null) {
+            if (CREDENTIAL_REGIONS.contains(cacheName)) {
+                // Password hashes must not end up in plain files
+                throw new IllegalStateException("Cache region " + cacheName + " holds credentials and cannot have a disk tier");
+            }
+            if (cacheProperties.getDiskDirectory() == null) {
+                throw new IllegalStateException("application.cache.disk-directory must be set for the disk tier of " + cacheName);
+            }
+            // Not persistent: second-level cache entries are Hibernate's internal state of the entities, which a new release
+            // may not read back, and which writes made while the instance was down would leave stale
+            resourcePools = resourcePools.disk(region.getMaxDiskBytes(), MemoryUnit.B, false);
+        }
+        CacheConfigurationBuilder<K, V> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(keyType, valueType, resourcePools);
+        if (region.getMaxOffHeapBytes() != null || region.getMaxDiskBytes() != null) {
+            // Entries leaving the heap are serialized, which Ehcache cannot pick a serializer for when typed as Object
+            if (!Serializable.class.isAssignableFrom(keyType)) {
+                builder = builder.withKeySerializer(new PlainJavaSerializer<>(getClass().getClassLoader()));
+            }
+            builder = builder.withValueSerializer(valueSerializer);
+        }
+        if (region.getTimeToIdleSeconds() != null) {
+            return builder.withExpiry(ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofSeconds(region.getTimeToIdleSeconds())));
         }
+        long timeToLiveSeconds = region.getTimeToLiveSeconds() != null ? region.getTimeToLiveSeconds() : ehcache.getTimeToLiveSeconds();
+        return builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(timeToLiveSeconds)));
     }
 
     @Autowired(required = false)
@@ -0,0 +1,95 @@
+package com.mycompany.myapp.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+/**
+ * {@link org.springframework.web.servlet.resource.ResourceResolver} reading the static resources it resolves into
+ * memory.
+ * <p>
+ * Resources packaged in the application jar are otherwise inflated from the jar on every request. Placed behind the
+ * caching resolver of a resource chain, each resource, including the precompressed variants picked by an
+ * {@link EncodedResourceResolver}, is read once and then written straight from memory.
+ */
+class InMemoryResourceResolver extends AbstractResourceResolver {
+
+    private final long maxContentLength;
+
+    /**
+     * @param maxContentLength the size above which resources are not kept in memory, in bytes.
+     */
+    InMemoryResourceResolver(long maxContentLength) {
+        this.maxContentLength = maxContentLength;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(
+        HttpServletRequest request,
+        String requestPath,
+        List<? extends Resource> locations,
+        ResourceResolverChain chain
+    ) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource == null || resource instanceof InMemoryResource) {
+            return resource;
+        }
+        try {
+            if (resource.contentLength() > maxContentLength) {
+                return resource;
+            }
+            return new InMemoryResource(resource);
+        } catch (IOException e) {
+            logger.debug("Could not read " + resource + " into memory, serving it as is", e);
+            return resource;
+        }
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * Copy of a resource in memory, keeping the response headers of the precompressed ones.
+     */
+    static final class InMemoryResource extends ByteArrayResource implements HttpResource {
+
+        private final String filename;
+
+        private final long lastModified;
+
+        private final HttpHeaders responseHeaders;
+
+        private InMemoryResource(Resource resource) throws IOException {
+            super(resource.getContentAsByteArray(), resource.getDescription());
+            this.filename = resource.getFilename();
+            this.lastModified = resource.lastModified();
+            this.responseHeaders = resource instanceof HttpResource httpResource
+                ? HttpHeaders.readOnlyHttpHeaders(httpResource.getResponseHeaders())
+                : HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            return responseHeaders;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mycompany.myapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * {@link ThreadPoolTaskExecutor} publishing its activity as Micrometer metrics, tagged with its name.
+ * <p>
+ * On top of the standard executor metrics (active, queued and completed tasks, pool size), tasks are timed while
+ * queued ({@code executor.idle}) and while running ({@code executor}), rejected tasks are counted
+ * ({@code executor.rejected}), and the age of the oldest queued task is tracked ({@code executor.queue.age}): a growing
+ * queue age is the earliest sign that the executor cannot keep up.
+ */
+public class MonitoredThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+
+    private final transient MeterRegistry registry;
+
+    private final transient Timer waitTimer;
+
+    private final transient Timer runTimer;
+
+    public MonitoredThreadPoolTaskExecutor(String name, RejectedExecutionHandler rejectionPolicy, MeterRegistry registry) {
+        this.name = name;
+        this.registry = registry;
+        Tags tags = Tags.of("name", name);
+        this.waitTimer = Timer.builder("executor.idle").tags(tags).description("The time tasks spend queued before running").register(registry);
+        this.runTimer = Timer.builder("executor").tags(tags).description("The time tasks spend running").register(registry);
+        Counter rejectedCounter = Counter.builder("executor.rejected")
+            .tags(tags)
+            .baseUnit("tasks")
+            .description("The number of tasks rejected because the queue was full")
+            .register(registry);
+        TimeGauge.builder("executor.queue.age", this, TimeUnit.MILLISECONDS, MonitoredThreadPoolTaskExecutor::getOldestQueuedTaskAgeMs)
+            .tags(tags)
+            .description("The time the oldest queued task has been waiting for")
+            .register(registry);
+        setTaskDecorator(task -> new QueuedTask(task, System.nanoTime()));
+        setRejectedExecutionHandler((task, executor) -> {
+            rejectedCounter.increment();
+            rejectionPolicy.rejectedExecution(task, executor);
+        });
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        ExecutorService executor = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(registry);
+        return executor;
+    }
+
+    /**
+     * @return the time the oldest queued task has been waiting for, in milliseconds, or {@code 0} if none is queued.
+     */
+    public long getOldestQueuedTaskAgeMs() {
+        if (getQueueSize() == 0) {
+            return 0;
+        }
+        // Tasks are decorated before being queued
+        if (getThreadPoolExecutor().getQueue().peek() instanceof QueuedTask oldest) {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.queuedAt);
+        }
+        return 0;
+    }
+
+    private final class QueuedTask implements Runnable {
+
+        private final Runnable task;
+
+        private final long queuedAt;
+
+        private QueuedTask(Runnable task, long queuedAt) {
+            this.task = task;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public void run() {
+            waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            runTimer.record(task);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.security.PrincipalSnapshot;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
+import org.ehcache.spi.serialization.Serializer;
+import org.ehcache.spi.serialization.SerializerException;
+
+/**
+ * Serializer of the {@link PrincipalSnapshot}s kept off the heap and on disk.
+ * <p>
+ * A snapshot is a handful of strings: writing them as such takes a fraction of the bytes and time of the
+ * {@link PlainJavaSerializer}, and the versioned format does not depend on the class of the snapshot, so entries
+ * written to disk by a previous release can still be read, or are skipped when the format changed.
+ */
+final class PrincipalSnapshotSerializer implements Serializer<PrincipalSnapshot> {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    @Override
+    public ByteBuffer serialize(PrincipalSnapshot principal) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(principal.id());
+            out.writeUTF(principal.login());
+            out.writeUTF(principal.password());
+            out.writeBoolean(principal.activated());
+            out.writeShort(principal.authorities().size());
+            for (String authority : principal.authorities()) {
+                out.writeUTF(authority);
+            }
+        } catch (IOException e) {
+            throw new SerializerException("Could not serialize principal " + principal.login(), e);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @Override
+    public PrincipalSnapshot read(ByteBuffer binary) {
+        try (DataInputStream in = new DataInputStream(new ByteBufferInputStream(binary))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new SerializerException("Unsupported principal format " + version);
+            }
+            long id = in.readLong();
+            String login = in.readUTF();
+            String password = in.readUTF();
+            boolean activated = in.readBoolean();
+            int authorityCount = in.readUnsignedShort();
+            List<String> authorities = new ArrayList<>(authorityCount);
+            for (int i = 0; i < authorityCount; i++) {
+                authorities.add(in.readUTF());
+            }
+            return new PrincipalSnapshot(id, login, password, activated, authorities);
+        } catch (IOException e) {
+            throw new SerializerException("Could not read a principal", e);
+        }
+    }
+
+    @Override
+    public boolean equals(PrincipalSnapshot principal, ByteBuffer binary) {
+        return principal.equals(read(binary));
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.mycompany.myapp.config;
 import static org.springframework.security.config.Customizer.withDefaults;
 import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
+import com.mycompany.myapp.management.SecurityMetersService;
 import com.mycompany.myapp.security.*;
 import com.mycompany.myapp.web.filter.SpaWebFilter;
+import java.time.Clock;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -40,8 +42,32 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(SecurityMetersService metersService, ApplicationProperties applicationProperties) {
+        ApplicationProperties.Login login = applicationProperties.getLogin();
+        int threads = login.getHashingThreads() > 0
+            ? login.getHashingThreads()
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new OffloadingPasswordEncoder(
+            new BCryptPasswordEncoder(login.getBcryptStrength()),
+            threads,
+            login.getHashingQueueCapacity(),
+            login.getHashingQueueTimeoutMs(),
+            metersService
+        );
+    }
+
+    @Bean
+    public LoginAttemptLimiter loginAttemptLimiter(SecurityMetersService metersService, ApplicationProperties applicationProperties) {
+        ApplicationProperties.Login login = applicationProperties.getLogin();
+        return new LoginAttemptLimiter(
+            login.getLoginBurst(),
+            login.getLoginAttemptsPerMinute(),
+            login.getClientBurst(),
+            login.getClientAttemptsPerMinute(),
+            login.getMaxTrackedKeys(),
+            metersService,
+            Clock.systemUTC()
+        );
     }
 
     @Bean
@@ -7,6 +7,7 @@ import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 import tech.jhipster.config.JHipsterConstants;
 import tech.jhipster.config.JHipsterProperties;
 
@@ -16,6 +17,12 @@ public class StaticResourcesWebConfiguration implements WebMvcConfigurer {
 
     protected static final String[] RESOURCE_LOCATIONS = { "classpath:/static/", "classpath:/static/content/", "classpath:/static/i18n/" };
     protected static final String[] RESOURCE_PATHS = { "/*.js", "/*.css", "/*.svg", "/*.png", "*.ico", "/content/**", "/i18n/*" };
+    // Bundles and stylesheets named after a hash of their content by webpack, which never change once served
+    protected static final String[] HASHED_RESOURCE_PATHS = {
+        "/{asset:[\\w.-]+\\.[0-9a-f]{8,}(?:\\.chunk)?\\.js}",
+        "/content/{asset:[\\w.-]+\\.[0-9a-f]{8,}\\.css}",
+    };
+    protected static final long MAX_IN_MEMORY_RESOURCE_LENGTH = 4 * 1024 * 1024;
 
     private final JHipsterProperties jhipsterProperties;
 
@@ -27,6 +34,7 @@ public class StaticResourcesWebConfiguration implements WebMvcConfigurer {
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         ResourceHandlerRegistration resourceHandlerRegistration = appendResourceHandler(registry);
         initializeResourceHandler(resourceHandlerRegistration);
+        initializeHashedResourceHandler(registry.addResourceHandler(HASHED_RESOURCE_PATHS));
     }
 
     protected ResourceHandlerRegistration appendResourceHandler(ResourceHandlerRegistry registry) {
@@ -35,12 +43,33 @@ public class StaticResourcesWebConfiguration implements WebMvcConfigurer {
 
     protected void initializeResourceHandler(ResourceHandlerRegistration resourceHandlerRegistration) {
         resourceHandlerRegistration.addResourceLocations(RESOURCE_LOCATIONS).setCacheControl(getCacheControl());
+        initializeResourceChain(resourceHandlerRegistration);
+    }
+
+    protected void initializeHashedResourceHandler(ResourceHandlerRegistration resourceHandlerRegistration) {
+        resourceHandlerRegistration.addResourceLocations(RESOURCE_LOCATIONS).setCacheControl(getHashedCacheControl());
+        initializeResourceChain(resourceHandlerRegistration);
+    }
+
+    /**
+     * Serve the Brotli or gzip variant emitted by the build next to a resource when the client accepts it, rather than
+     * compressing it on every request, and keep the resolved resources in memory.
+     */
+    protected void initializeResourceChain(ResourceHandlerRegistration resourceHandlerRegistration) {
+        resourceHandlerRegistration
+            .resourceChain(true)
+            .addResolver(new InMemoryResourceResolver(MAX_IN_MEMORY_RESOURCE_LENGTH))
+            .addResolver(new EncodedResourceResolver());
     }
 
     protected CacheControl getCacheControl() {
         return CacheControl.maxAge(getJHipsterHttpCacheProperty(), TimeUnit.DAYS).cachePublic();
     }
 
+    protected CacheControl getHashedCacheControl() {
+        return CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    }
+
     private int getJHipsterHttpCacheProperty() {
         return jhipsterProperties.getHttp().getCache().getTimeToLiveInDays();
     }
@@ -0,0 +1,41 @@
+package com.mycompany.myapp.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * {@link HealthIndicator} taking the application out of service while the async task executor lags behind.
+ * <p>
+ * Part of the readiness group: when the oldest queued task has waited longer than the threshold, the instance stops
+ * receiving traffic until its queue drains, instead of accepting work it would only get to late.
+ */
+public class TaskExecutorHealthIndicator implements HealthIndicator {
+
+    private final MonitoredThreadPoolTaskExecutor executor;
+
+    private final long maxQueueAgeMs;
+
+    /**
+     * @param executor the executor to check, or {@code null} if tasks are not queued, as with virtual threads.
+     * @param maxQueueAgeMs the age of the oldest queued task above which the executor is out of service.
+     */
+    public TaskExecutorHealthIndicator(MonitoredThreadPoolTaskExecutor executor, long maxQueueAgeMs) {
+        this.executor = executor;
+        this.maxQueueAgeMs = maxQueueAgeMs;
+    }
+
+    @Override
+    public Health health() {
+        if (executor == null) {
+            return Health.up().withDetail("virtualThreads", true).build();
+        }
+        long queueAgeMs = executor.getOldestQueuedTaskAgeMs();
+        Health.Builder builder = queueAgeMs > maxQueueAgeMs ? Health.outOfService() : Health.up();
+        return builder
+            .withDetail("active", executor.getActiveCount())
+            .withDetail("queued", executor.getQueueSize())
+            .withDetail("queueAgeMs", queueAgeMs)
+            .withDetail("maxQueueAgeMs", maxQueueAgeMs)
+            .build();
+    }
+}
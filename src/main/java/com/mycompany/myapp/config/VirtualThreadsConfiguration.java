@@ -0,0 +1,57 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Configuration of the {@code virtual-threads} profile, active when running on Java 21 or later with
+ * {@code spring.threads.virtual.enabled}.
+ * <p>
+ * Undertow dispatches requests to virtual threads instead of its worker pool; {@link AsyncConfiguration} does the same
+ * for {@code @Async} methods, and Spring Boot for {@code @Scheduled} jobs. As the number of threads no longer limits
+ * how much blocking work runs at once, the database connections are guarded by a semaphore instead; see
+ * {@link com.mycompany.myapp.service.MailOutboxService} for SMTP connections.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreadsCustomizer() {
+        return factory ->
+            factory.addDeploymentInfoCustomizers(deploymentInfo -> {
+                LOG.debug("Dispatching Undertow requests to virtual threads");
+                deploymentInfo.setExecutor(new VirtualThreadTaskExecutor("undertow-"));
+                deploymentInfo.setAsyncExecutor(new VirtualThreadTaskExecutor("undertow-async-"));
+            });
+    }
+
+    @Bean
+    public static BeanPostProcessor permitLimitedDataSourcePostProcessor(ObjectProvider<ApplicationProperties> applicationProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource)) {
+                    return bean;
+                }
+                ApplicationProperties.VirtualThreads properties = applicationProperties.getObject().getVirtualThreads();
+                int permits = properties.getDatasourcePermits() > 0 ? properties.getDatasourcePermits() : dataSource.getMaximumPoolSize();
+                LOG.debug("Limiting the connections borrowed from '{}' to {} at a time", beanName, permits);
+                return new PermitLimitedDataSource(dataSource, permits, properties.getDatasourceAcquireTimeoutMs());
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.mycompany.myapp.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * The generation of a collection of reference data, moved in the same transaction as every write to the collection.
+ * <p>
+ * Not cached: every node must read the committed value, so that they all agree on the version of the collection.
+ */
+@Entity
+@Table(name = "reference_data_generation")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ReferenceDataGeneration implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TICKET_CATEGORIES = "ticket_category";
+
+    public static final String TICKET_PRIORITIES = "ticket_priority";
+
+    @Id
+    @Size(max = 50)
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @NotNull
+    @Column(name = "generation", nullable = false)
+    private Long generation;
+
+    @NotNull
+    @Column(name = "last_modified", nullable = false)
+    private Instant lastModified;
+
+    public String getName() {
+        return this.name;
+    }
+
+    public ReferenceDataGeneration name(String name) {
+        this.setName(name);
+        return this;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getGeneration() {
+        return this.generation;
+    }
+
+    public ReferenceDataGeneration generation(Long generation) {
+        this.setGeneration(generation);
+        return this;
+    }
+
+    public void setGeneration(Long generation) {
+        this.generation = generation;
+    }
+
+    public Instant getLastModified() {
+        return this.lastModified;
+    }
+
+    public ReferenceDataGeneration lastModified(Instant lastModified) {
+        this.setLastModified(lastModified);
+        return this;
+    }
+
+    public void setLastModified(Instant lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReferenceDataGeneration)) {
+            return false;
+        }
+        return getName() != null && getName().equals(((ReferenceDataGeneration) o).getName());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ReferenceDataGeneration{" +
+            "name='" + getName() + "'" +
+            ", generation=" + getGeneration() +
+            ", lastModified='" + getLastModified() + "'" +
+            "}";
+    }
+}
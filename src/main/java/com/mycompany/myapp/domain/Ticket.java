@@ -17,7 +17,8 @@ public class Ticket implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticketSequenceGenerator")
+    @SequenceGenerator(name = "ticketSequenceGenerator", sequenceName = "ticket_sequence_generator", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -47,6 +48,10 @@ public class Ticket implements Serializable {
     @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -153,6 +158,19 @@ public class Ticket implements Serializable {
         return this;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Ticket version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -181,6 +199,7 @@ public class Ticket implements Serializable {
             ", description='" + getDescription() + "'" +
             ", creationDate='" + getCreationDate() + "'" +
             ", status='" + getStatus() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -0,0 +1,171 @@
+package com.mycompany.myapp.domain;
+
+import com.mycompany.myapp.domain.enumeration.TicketChangeType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A change of a {@link Ticket}, written in the same transaction as the change itself.
+ * <p>
+ * The {@code seq} is only assigned by the outbox relay once the entry is committed, in the order entries are relayed,
+ * so that a consumer having read up to a sequence number can never miss an entry committed later with a lower one.
+ */
+@Entity
+@Table(name = "ticket_outbox")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class TicketOutboxEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticketOutboxSequenceGenerator")
+    @SequenceGenerator(name = "ticketOutboxSequenceGenerator", sequenceName = "ticket_outbox_sequence_generator", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "seq", unique = true)
+    private Long seq;
+
+    @NotNull
+    @Column(name = "ticket_id", nullable = false)
+    private Long ticketId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private TicketChangeType changeType;
+
+    @Lob
+    @Column(name = "payload")
+    private String payload;
+
+    @NotNull
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "relayed_at")
+    private Instant relayedAt;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public TicketOutboxEntry id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getSeq() {
+        return this.seq;
+    }
+
+    public TicketOutboxEntry seq(Long seq) {
+        this.setSeq(seq);
+        return this;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Long getTicketId() {
+        return this.ticketId;
+    }
+
+    public TicketOutboxEntry ticketId(Long ticketId) {
+        this.setTicketId(ticketId);
+        return this;
+    }
+
+    public void setTicketId(Long ticketId) {
+        this.ticketId = ticketId;
+    }
+
+    public TicketChangeType getChangeType() {
+        return this.changeType;
+    }
+
+    public TicketOutboxEntry changeType(TicketChangeType changeType) {
+        this.setChangeType(changeType);
+        return this;
+    }
+
+    public void setChangeType(TicketChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public String getPayload() {
+        return this.payload;
+    }
+
+    public TicketOutboxEntry payload(String payload) {
+        this.setPayload(payload);
+        return this;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getOccurredAt() {
+        return this.occurredAt;
+    }
+
+    public TicketOutboxEntry occurredAt(Instant occurredAt) {
+        this.setOccurredAt(occurredAt);
+        return this;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public Instant getRelayedAt() {
+        return this.relayedAt;
+    }
+
+    public TicketOutboxEntry relayedAt(Instant relayedAt) {
+        this.setRelayedAt(relayedAt);
+        return this;
+    }
+
+    public void setRelayedAt(Instant relayedAt) {
+        this.relayedAt = relayedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TicketOutboxEntry)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((TicketOutboxEntry) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketOutboxEntry{" +
+            "id=" + getId() +
+            ", seq=" + getSeq() +
+            ", ticketId=" + getTicketId() +
+            ", changeType='" + getChangeType() + "'" +
+            ", occurredAt='" + getOccurredAt() + "'" +
+            ", relayedAt='" + getRelayedAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,83 @@
+package com.mycompany.myapp.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+
+/**
+ * The state of the ticket outbox relay, shared by all the nodes: a single row, locked by each relay run.
+ * <p>
+ * Not cached: every node must read the committed value under its lock.
+ */
+@Entity
+@Table(name = "ticket_outbox_relay_state")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class TicketOutboxRelayState implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The id of the only row.
+     */
+    public static final Long ID = 1L;
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public TicketOutboxRelayState id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getLastSeq() {
+        return this.lastSeq;
+    }
+
+    public TicketOutboxRelayState lastSeq(Long lastSeq) {
+        this.setLastSeq(lastSeq);
+        return this;
+    }
+
+    public void setLastSeq(Long lastSeq) {
+        this.lastSeq = lastSeq;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TicketOutboxRelayState)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((TicketOutboxRelayState) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketOutboxRelayState{" +
+            "id=" + getId() +
+            ", lastSeq=" + getLastSeq() +
+            "}";
+    }
+}
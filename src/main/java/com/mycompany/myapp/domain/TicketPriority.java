@@ -3,11 +3,14 @@ package com.mycompany.myapp.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A TicketPriority.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "ticket_priority")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class TicketPriority implements Serializable {
@@ -0,0 +1,10 @@
+package com.mycompany.myapp.domain.enumeration;
+
+/**
+ * The TicketChangeType enumeration.
+ */
+public enum TicketChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+}
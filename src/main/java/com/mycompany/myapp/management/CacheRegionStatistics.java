@@ -0,0 +1,214 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+import java.util.stream.StreamSupport;
+import javax.cache.CacheManager;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.core.statistics.CacheStatistics;
+import org.ehcache.core.statistics.TierStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Statistics of the regions of the Ehcache cache manager, per storage tier.
+ * <p>
+ * Hits, misses, puts and evictions are already published from the JCache statistics; this adds the number of entries
+ * of each region as the {@code cache.size} gauge, with the same tags, and the entries and bytes held by each of its
+ * storage tiers (heap, off-heap, disk). JCache does not expose sizes, so they are read from the statistics service the
+ * underlying Ehcache cache manager was configured with, see {@link ProvidedStatisticsServiceFactory}: without one, no
+ * region statistics are available and a warning is logged.
+ */
+@Component
+public class CacheRegionStatistics implements MeterBinder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheRegionStatistics.class);
+
+    public static final String CACHE_SIZE_METER_NAME = "cache.size";
+    public static final String CACHE_SIZE_METER_DESCRIPTION = "The number of entries in this cache.";
+    public static final String CACHE_SIZE_METER_BASE_UNIT = "entries";
+    public static final String CACHE_TIER_SIZE_METER_NAME = "cache.tier.size";
+    public static final String CACHE_TIER_SIZE_METER_DESCRIPTION = "The number of entries held by this storage tier of this cache.";
+    public static final String CACHE_TIER_BYTES_METER_NAME = "cache.tier.bytes";
+    public static final String CACHE_TIER_BYTES_METER_DESCRIPTION =
+        "The number of bytes used by the entries of this storage tier of this cache.";
+    public static final String CACHE_TIER_METER_TIER_DIMENSION = "tier";
+    public static final String CACHE_MANAGER_NAME = "cacheManager";
+
+    /**
+     * Statistics of a region.
+     *
+     * @param name the name of the region.
+     * @param entries the number of entries, as held by the largest tier.
+     * @param hits the number of lookups that found an entry.
+     * @param misses the number of lookups that did not find an entry.
+     * @param puts the number of entries written.
+     * @param evictions the number of entries evicted to make room for others.
+     * @param expirations the number of entries that expired.
+     * @param tiers the statistics of each storage tier, by tier name.
+     */
+    public record Region(
+        String name,
+        long entries,
+        long hits,
+        long misses,
+        long puts,
+        long evictions,
+        long expirations,
+        Map<String, Tier> tiers
+    ) {}
+
+    /**
+     * Statistics of a storage tier of a region.
+     *
+     * @param entries the number of entries held by the tier.
+     * @param occupiedBytes the number of bytes used by the entries, when the tier measures it.
+     * @param allocatedBytes the number of bytes reserved by the tier, when the tier measures it.
+     * @param hits the number of lookups that found an entry in the tier.
+     * @param misses the number of lookups that did not find an entry in the tier.
+     * @param evictions the number of entries evicted from the tier.
+     */
+    public record Tier(long entries, long occupiedBytes, long allocatedBytes, long hits, long misses, long evictions) {}
+
+    private final CacheManager cacheManager;
+
+    private final StatisticsService statisticsService;
+
+    public CacheRegionStatistics(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+        this.statisticsService = ProvidedStatisticsServiceFactory.findStatisticsService(cacheManager).orElse(null);
+        if (statisticsService == null) {
+            LOG.warn("{} has no Ehcache statistics service, cache region statistics are not available", cacheManager.getClass().getName());
+        }
+    }
+
+    /**
+     * @return the names of the regions.
+     */
+    public List<String> getRegionNames() {
+        return StreamSupport.stream(cacheManager.getCacheNames().spliterator(), false).sorted().toList();
+    }
+
+    /**
+     * @return the statistics of every region.
+     */
+    public List<Region> getRegions() {
+        List<Region> regions = new ArrayList<>();
+        for (String name : getRegionNames()) {
+            getRegion(name).ifPresent(regions::add);
+        }
+        return regions;
+    }
+
+    /**
+     * @param name the name of the region.
+     * @return the statistics of the region, or empty if there is no such region or no statistics are available.
+     */
+    public Optional<Region> getRegion(String name) {
+        CacheStatistics statistics = getCacheStatistics(name);
+        if (statistics == null) {
+            return Optional.empty();
+        }
+        Map<String, Tier> tiers = new LinkedHashMap<>();
+        statistics
+            .getTierStatistics()
+            .forEach((tierName, tier) ->
+                tiers.put(
+                    tierName,
+                    new Tier(
+                        tier.getMappings(),
+                        tier.getOccupiedByteSize(),
+                        tier.getAllocatedByteSize(),
+                        tier.getHits(),
+                        tier.getMisses(),
+                        tier.getEvictions()
+                    )
+                )
+            );
+        return Optional.of(
+            new Region(
+                name,
+                entries(statistics),
+                statistics.getCacheHits(),
+                statistics.getCacheMisses(),
+                statistics.getCachePuts(),
+                statistics.getCacheEvictions(),
+                statistics.getCacheExpirations(),
+                tiers
+            )
+        );
+    }
+
+    private CacheStatistics getCacheStatistics(String name) {
+        if (statisticsService == null || cacheManager.isClosed() || cacheManager.getCache(name) == null) {
+            return null;
+        }
+        try {
+            return statisticsService.getCacheStatistics(name);
+        } catch (IllegalArgumentException e) {
+            // The region was destroyed meanwhile
+            return null;
+        }
+    }
+
+    private static long entries(CacheStatistics statistics) {
+        // Tiers are inclusive: every entry is held by the lowest tier, the others hold copies of the hottest ones
+        return statistics.getTierStatistics().values().stream().mapToLong(TierStatistics::getMappings).max().orElse(0);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : getRegionNames()) {
+            Gauge.builder(CACHE_SIZE_METER_NAME, this, statistics -> {
+                CacheStatistics cacheStatistics = statistics.getCacheStatistics(name);
+                return cacheStatistics != null ? entries(cacheStatistics) : Double.NaN;
+            })
+                .description(CACHE_SIZE_METER_DESCRIPTION)
+                .baseUnit(CACHE_SIZE_METER_BASE_UNIT)
+                .tag("cache", name)
+                .tag("cache.manager", CACHE_MANAGER_NAME)
+                .register(registry);
+            CacheStatistics cacheStatistics = getCacheStatistics(name);
+            if (cacheStatistics != null) {
+                cacheStatistics.getTierStatistics().forEach((tierName, tier) -> bindTier(registry, name, tierName, tier));
+            }
+        }
+    }
+
+    private void bindTier(MeterRegistry registry, String name, String tierName, TierStatistics tier) {
+        Gauge.builder(CACHE_TIER_SIZE_METER_NAME, this, statistics -> tierStatistic(name, tierName, TierStatistics::getMappings))
+            .description(CACHE_TIER_SIZE_METER_DESCRIPTION)
+            .baseUnit(CACHE_SIZE_METER_BASE_UNIT)
+            .tag("cache", name)
+            .tag("cache.manager", CACHE_MANAGER_NAME)
+            .tag(CACHE_TIER_METER_TIER_DIMENSION, tierName)
+            .register(registry);
+        // Tiers sized by entries, such as the heap, do not measure the bytes they use
+        if (tier.getOccupiedByteSize() >= 0) {
+            Gauge.builder(CACHE_TIER_BYTES_METER_NAME, this, statistics ->
+                tierStatistic(name, tierName, TierStatistics::getOccupiedByteSize)
+            )
+                .description(CACHE_TIER_BYTES_METER_DESCRIPTION)
+                .baseUnit(BaseUnits.BYTES)
+                .tag("cache", name)
+                .tag("cache.manager", CACHE_MANAGER_NAME)
+                .tag(CACHE_TIER_METER_TIER_DIMENSION, tierName)
+                .register(registry);
+        }
+    }
+
+    private double tierStatistic(String name, String tierName, ToLongFunction<TierStatistics> statistic) {
+        CacheStatistics cacheStatistics = getCacheStatistics(name);
+        TierStatistics tier = cacheStatistics != null ? cacheStatistics.getTierStatistics().get(tierName) : null;
+        return tier != null ? statistic.applyAsLong(tier) : Double.NaN;
+    }
+}
@@ -0,0 +1,61 @@
+package com.mycompany.myapp.management;
+
+import java.util.List;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint showing the size and the hit ratio of every cache region, per storage tier, and clearing them.
+ */
+@Component
+@WebEndpoint(id = "cacheregions")
+public class CacheRegionsEndpoint {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheRegionsEndpoint.class);
+
+    private final CacheRegionStatistics cacheRegionStatistics;
+
+    private final CacheManager cacheManager;
+
+    public CacheRegionsEndpoint(CacheRegionStatistics cacheRegionStatistics, CacheManager cacheManager) {
+        this.cacheRegionStatistics = cacheRegionStatistics;
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public List<CacheRegionStatistics.Region> regions() {
+        return cacheRegionStatistics.getRegions();
+    }
+
+    /**
+     * @param name the name of the region.
+     * @return the statistics of the region, or {@code null} (404) if there is no such region.
+     */
+    @ReadOperation
+    public CacheRegionStatistics.Region region(@Selector String name) {
+        return cacheRegionStatistics.getRegion(name).orElse(null);
+    }
+
+    /**
+     * @param name the name of the region to clear.
+     * @return no content, or not found if there is no such region.
+     */
+    @DeleteOperation
+    public WebEndpointResponse<Void> clear(@Selector String name) {
+        Cache<Object, Object> cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        LOG.info("Clearing cache region {}", name);
+        cache.clear();
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+}
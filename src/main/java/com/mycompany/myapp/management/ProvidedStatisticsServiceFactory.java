@@ -0,0 +1,70 @@
+package com.mycompany.myapp.management;
+
+import java.util.Optional;
+import javax.cache.CacheManager;
+import org.ehcache.core.internal.statistics.DefaultStatisticsService;
+import org.ehcache.core.spi.service.ServiceFactory;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
+
+/**
+ * Ehcache service factory handing a cache manager the {@link StatisticsService} it is configured with, instead of one
+ * created internally that cannot be reached through a public API.
+ * <p>
+ * It is registered with the {@link java.util.ServiceLoader} and ranked above the default factory, so cache managers
+ * configured without a {@link ProvidedStatisticsService} get a statistics service of their own, as before.
+ */
+public class ProvidedStatisticsServiceFactory implements ServiceFactory<StatisticsService> {
+
+    /**
+     * Configuration of a cache manager giving it its statistics service.
+     *
+     * @param statisticsService the statistics service of the cache manager.
+     */
+    public record ProvidedStatisticsService(StatisticsService statisticsService)
+        implements ServiceCreationConfiguration<StatisticsService, Void> {
+        @Override
+        public Class<StatisticsService> getServiceType() {
+            return StatisticsService.class;
+        }
+    }
+
+    /**
+     * @param cacheManager the JCache cache manager.
+     * @return the statistics service the cache manager was configured with, or empty if it is not an Ehcache cache
+     * manager configured with a {@link ProvidedStatisticsService}.
+     */
+    public static Optional<StatisticsService> findStatisticsService(CacheManager cacheManager) {
+        org.ehcache.CacheManager ehcacheManager;
+        try {
+            ehcacheManager = cacheManager.unwrap(org.ehcache.CacheManager.class);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return ehcacheManager
+            .getRuntimeConfiguration()
+            .getServiceCreationConfigurations()
+            .stream()
+            .filter(ProvidedStatisticsService.class::isInstance)
+            .map(configuration -> ((ProvidedStatisticsService) configuration).statisticsService())
+            .findFirst();
+    }
+
+    @Override
+    public int rank() {
+        return 2;
+    }
+
+    @Override
+    public StatisticsService create(ServiceCreationConfiguration<StatisticsService, ?> configuration) {
+        if (configuration instanceof ProvidedStatisticsService provided) {
+            return provided.statisticsService();
+        }
+        return new DefaultStatisticsService();
+    }
+
+    @Override
+    public Class<? extends StatisticsService> getServiceType() {
+        return DefaultStatisticsService.class;
+    }
+}
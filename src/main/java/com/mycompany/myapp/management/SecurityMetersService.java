@@ -2,6 +2,8 @@ package com.mycompany.myapp.management;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,16 +15,52 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_CACHE_METER_NAME = "security.authentication.token-cache";
+    public static final String TOKEN_CACHE_METER_DESCRIPTION =
+        "Indicates lookups of the tokens presented by the clients in the cache of verified tokens.";
+    public static final String TOKEN_CACHE_METER_BASE_UNIT = "lookups";
+    public static final String TOKEN_CACHE_METER_RESULT_DIMENSION = "result";
+
+    public static final String PASSWORD_HASHING_METER_NAME = "security.authentication.password-hashing";
+    public static final String PASSWORD_HASHING_METER_DESCRIPTION = "Indicates the time spent hashing the passwords of the users.";
+
+    public static final String REJECTED_LOGINS_METER_NAME = "security.authentication.rejected-logins";
+    public static final String REJECTED_LOGINS_METER_DESCRIPTION =
+        "Indicates login attempts rejected before their credentials were checked.";
+    public static final String REJECTED_LOGINS_METER_BASE_UNIT = "logins";
+    public static final String REJECTED_LOGINS_METER_REASON_DIMENSION = "reason";
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
 
+    private final Counter tokenCacheHitCounter;
+    private final Counter tokenCacheMissCounter;
+
+    private final Timer passwordHashingTimer;
+
+    private final Counter loginThrottledCounter;
+    private final Counter clientThrottledCounter;
+    private final Counter hashingBusyCounter;
+
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+
+        this.tokenCacheHitCounter = tokenCacheCounterForResultBuilder("hit").register(registry);
+        this.tokenCacheMissCounter = tokenCacheCounterForResultBuilder("miss").register(registry);
+
+        this.passwordHashingTimer = Timer.builder(PASSWORD_HASHING_METER_NAME)
+            .description(PASSWORD_HASHING_METER_DESCRIPTION)
+            .publishPercentileHistogram()
+            .register(registry);
+
+        this.loginThrottledCounter = rejectedLoginsCounterForReasonBuilder("login-throttled").register(registry);
+        this.clientThrottledCounter = rejectedLoginsCounterForReasonBuilder("client-throttled").register(registry);
+        this.hashingBusyCounter = rejectedLoginsCounterForReasonBuilder("hashing-busy").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -32,6 +70,20 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Counter.Builder tokenCacheCounterForResultBuilder(String result) {
+        return Counter.builder(TOKEN_CACHE_METER_NAME)
+            .baseUnit(TOKEN_CACHE_METER_BASE_UNIT)
+            .description(TOKEN_CACHE_METER_DESCRIPTION)
+            .tag(TOKEN_CACHE_METER_RESULT_DIMENSION, result);
+    }
+
+    private Counter.Builder rejectedLoginsCounterForReasonBuilder(String reason) {
+        return Counter.builder(REJECTED_LOGINS_METER_NAME)
+            .baseUnit(REJECTED_LOGINS_METER_BASE_UNIT)
+            .description(REJECTED_LOGINS_METER_DESCRIPTION)
+            .tag(REJECTED_LOGINS_METER_REASON_DIMENSION, reason);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -47,4 +99,28 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackTokenCacheHit() {
+        this.tokenCacheHitCounter.increment();
+    }
+
+    public void trackTokenCacheMiss() {
+        this.tokenCacheMissCounter.increment();
+    }
+
+    public void trackPasswordHashing(long nanos) {
+        this.passwordHashingTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackLoginThrottled() {
+        this.loginThrottledCounter.increment();
+    }
+
+    public void trackClientThrottled() {
+        this.clientThrottledCounter.increment();
+    }
+
+    public void trackPasswordHashingBusy() {
+        this.hashingBusyCounter.increment();
+    }
 }
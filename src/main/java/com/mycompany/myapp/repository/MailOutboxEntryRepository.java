@@ -0,0 +1,44 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.MailOutboxEntry;
+import com.mycompany.myapp.domain.enumeration.MailStatus;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the MailOutboxEntry entity.
+ */
+@Repository
+public interface MailOutboxEntryRepository extends JpaRepository<MailOutboxEntry, Long> {
+    /**
+     * Claim the pending mails due for an attempt, oldest first, locking them until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select mail from MailOutboxEntry mail where mail.status = com.mycompany.myapp.domain.enumeration.MailStatus.PENDING " +
+        "and mail.nextAttemptAt <= :now order by mail.nextAttemptAt asc"
+    )
+    List<MailOutboxEntry> findDueForUpdate(@Param("now") Instant now, Limit limit);
+
+    /**
+     * Get the ids of the mails given up on before a point in time, along the status and next attempt time index.
+     */
+    @Query(
+        "select mail.id from MailOutboxEntry mail where mail.status = com.mycompany.myapp.domain.enumeration.MailStatus.FAILED " +
+        "and mail.nextAttemptAt < :failedBefore"
+    )
+    List<Long> findFailedIdsBefore(@Param("failedBefore") Instant failedBefore, Limit limit);
+
+    long countByStatus(MailStatus status);
+
+    @Query("select min(mail.createdAt) from MailOutboxEntry mail where mail.status = :status")
+    Optional<Instant> findOldestCreatedAt(@Param("status") MailStatus status);
+}
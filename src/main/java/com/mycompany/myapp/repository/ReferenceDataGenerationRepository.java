@@ -0,0 +1,26 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.ReferenceDataGeneration;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Spring Data JPA repository for the ReferenceDataGeneration entity.
+ */
+@Repository
+public interface ReferenceDataGenerationRepository extends JpaRepository<ReferenceDataGeneration, String> {
+    /**
+     * Move a generation in a single statement, so that concurrent writers on any node never reuse one.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update ReferenceDataGeneration g set g.generation = g.generation + 1, g.lastModified = :lastModified where g.name = :name"
+    )
+    int increment(@Param("name") String name, @Param("lastModified") Instant lastModified);
+}
@@ -1,6 +1,10 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.TicketCategory;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +13,25 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface TicketCategoryRepository extends JpaRepository<TicketCategory, Long> {}
+public interface TicketCategoryRepository extends JpaRepository<TicketCategory, Long> {
+    /**
+     * Reference data is read far more often than written: results come from the Hibernate query cache,
+     * which is invalidated on commit of any write to the table.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TicketCategory> findAll();
+
+    /**
+     * Read all the categories from the database rather than from the caches of this node, which writes made on other
+     * nodes do not invalidate, and refresh the second-level cache of this node with them.
+     */
+    @Query("select ticketCategory from TicketCategory ticketCategory")
+    @QueryHints(
+        {
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH"),
+        }
+    )
+    List<TicketCategory> findAllFromDatabase();
+}
@@ -0,0 +1,75 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The status, category and priority of a {@link Ticket}: the attributes tickets are counted and routed by.
+ * <p>
+ * Instances are immutable and can be used as map keys.
+ */
+public final class TicketDimensions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TicketStatus status;
+
+    private final Long categoryId;
+
+    private final Long priorityId;
+
+    public TicketDimensions(TicketStatus status, Long categoryId, Long priorityId) {
+        this.status = status;
+        this.categoryId = categoryId;
+        this.priorityId = priorityId;
+    }
+
+    public static TicketDimensions of(Ticket ticket) {
+        return new TicketDimensions(
+            ticket.getStatus(),
+            ticket.getCategory() != null ? ticket.getCategory().getId() : null,
+            ticket.getPriority() != null ? ticket.getPriority().getId() : null
+        );
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public Long getPriorityId() {
+        return priorityId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TicketDimensions)) {
+            return false;
+        }
+        TicketDimensions that = (TicketDimensions) o;
+        return status == that.status && Objects.equals(categoryId, that.categoryId) && Objects.equals(priorityId, that.priorityId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(status, categoryId, priorityId);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketDimensions{" +
+            "status='" + status + "'" +
+            ", categoryId=" + categoryId +
+            ", priorityId=" + priorityId +
+            "}";
+    }
+}
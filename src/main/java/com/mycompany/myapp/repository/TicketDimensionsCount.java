@@ -0,0 +1,38 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import java.io.Serializable;
+
+/**
+ * The number of tickets sharing the same {@link TicketDimensions}, as computed by a GROUP BY.
+ */
+public class TicketDimensionsCount implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TicketDimensions dimensions;
+
+    private final long count;
+
+    public TicketDimensionsCount(TicketStatus status, Long categoryId, Long priorityId, Long count) {
+        this.dimensions = new TicketDimensions(status, categoryId, priorityId);
+        this.count = count;
+    }
+
+    public TicketDimensions getDimensions() {
+        return dimensions;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketDimensionsCount{" +
+            "dimensions=" + dimensions +
+            ", count=" + count +
+            "}";
+    }
+}
@@ -0,0 +1,44 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.TicketOutboxEntry;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Spring Data JPA repository for the TicketOutboxEntry entity.
+ */
+@Repository
+public interface TicketOutboxEntryRepository extends JpaRepository<TicketOutboxEntry, Long> {
+    /**
+     * Claim the oldest entries not relayed yet, locking them until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select entry from TicketOutboxEntry entry where entry.seq is null order by entry.id asc")
+    List<TicketOutboxEntry> findUnrelayedForUpdate(Limit limit);
+
+    @Query("select min(entry.seq) from TicketOutboxEntry entry")
+    Optional<Long> findMinSeq();
+
+    List<TicketOutboxEntry> findBySeqGreaterThanOrderBySeqAsc(Long seq, Limit limit);
+
+    /**
+     * Delete the entries relayed before a date within a range of sequence numbers, so that each statement only
+     * locks a bounded number of rows.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        "delete from TicketOutboxEntry entry where entry.seq >= :fromSeq and entry.seq < :toSeq and entry.relayedAt < :relayedBefore"
+    )
+    int deleteRelayedBefore(@Param("fromSeq") long fromSeq, @Param("toSeq") long toSeq, @Param("relayedBefore") Instant relayedBefore);
+}
@@ -0,0 +1,23 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.TicketOutboxRelayState;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the TicketOutboxRelayState entity.
+ */
+@Repository
+public interface TicketOutboxRelayStateRepository extends JpaRepository<TicketOutboxRelayState, Long> {
+    /**
+     * Lock the relay state until the end of the transaction, so that relays running on other nodes wait for it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select state from TicketOutboxRelayState state where state.id = :id")
+    Optional<TicketOutboxRelayState> findByIdForUpdate(@Param("id") Long id);
+}
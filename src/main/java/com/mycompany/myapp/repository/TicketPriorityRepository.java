@@ -1,6 +1,10 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.TicketPriority;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +13,23 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface TicketPriorityRepository extends JpaRepository<TicketPriority, Long> {}
+public interface TicketPriorityRepository extends JpaRepository<TicketPriority, Long> {
+    /**
+     * Cached like {@link TicketCategoryRepository#findAll()}.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TicketPriority> findAll();
+
+    /**
+     * Read like {@link TicketCategoryRepository#findAllFromDatabase()}.
+     */
+    @Query("select ticketPriority from TicketPriority ticketPriority")
+    @QueryHints(
+        {
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH"),
+        }
+    )
+    List<TicketPriority> findAllFromDatabase();
+}
@@ -1,22 +1,32 @@
 package com.mycompany.myapp.repository;
 
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.TicketCategory;
+import com.mycompany.myapp.domain.TicketPriority;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
 
 /**
  * Spring Data JPA repository for the Ticket entity.
  */
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
     @Query("select ticket from Ticket ticket where ticket.user.login = ?#{authentication.name}")
     List<Ticket> findByUserIsCurrentUser();
 
@@ -32,12 +42,85 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
         return this.findAllWithToOneRelationships(pageable);
     }
 
-    @Query(value = "select ticket from Ticket ticket left join fetch ticket.user left join fetch ticket.category left join fetch ticket.priority", countQuery = "select count(ticket) from Ticket ticket")
+    @Query(value = "select ticket from Ticket ticket left join fetch ticket.user", countQuery = "select count(ticket) from Ticket ticket")
     Page<Ticket> findAllWithToOneRelationships(Pageable pageable);
 
-    @Query("select ticket from Ticket ticket left join fetch ticket.user left join fetch ticket.category left join fetch ticket.priority")
+    @Query("select ticket from Ticket ticket left join fetch ticket.user")
     List<Ticket> findAllWithToOneRelationships();
 
-    @Query("select ticket from Ticket ticket left join fetch ticket.user left join fetch ticket.category left join fetch ticket.priority where ticket.id =:id")
+    @Query(value = "select new com.mycompany.myapp.repository.TicketSummary(ticket.id, ticket.title, ticket.status, ticket.creationDate, category.name, priority.name, user.login) from Ticket ticket left join ticket.category category left join ticket.priority priority left join ticket.user user", countQuery = "select count(ticket) from Ticket ticket")
+    Page<TicketSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = "select ticket from Ticket ticket where ticket.user.id = :userId", countQuery = "select count(ticket) from Ticket ticket where ticket.user.id = :userId")
+    Page<Ticket> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select ticket from Ticket ticket where ticket.user.id = :userId and ticket.creationDate is not null order by ticket.creationDate desc, ticket.id desc")
+    List<Ticket> findFirstByUserIdByKeyset(@Param("userId") Long userId, Limit limit);
+
+    // The redundant "creationDate <= :creationDate" gives the database a range to seek in the (user_id, creation_date) index
+    @Query("select ticket from Ticket ticket where ticket.user.id = :userId and ticket.creationDate <= :creationDate and (ticket.creationDate < :creationDate or (ticket.creationDate = :creationDate and ticket.id < :id)) order by ticket.creationDate desc, ticket.id desc")
+    List<Ticket> findNextByUserIdByKeyset(
+        @Param("userId") Long userId,
+        @Param("creationDate") Instant creationDate,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query("select ticket from Ticket ticket left join fetch ticket.user where ticket.id =:id")
     Optional<Ticket> findOneWithToOneRelationships(@Param("id") Long id);
+
+    List<Ticket> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select new com.mycompany.myapp.repository.TicketDimensionsCount(ticket.status, ticket.category.id, ticket.priority.id, count(ticket)) from Ticket ticket group by ticket.status, ticket.category.id, ticket.priority.id")
+    List<TicketDimensionsCount> countByDimensions();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select ticket from Ticket ticket where ticket.id = :id")
+    Optional<Ticket> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Lock the row of a ticket and read its status, category and priority, without loading the ticket.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select new com.mycompany.myapp.repository.TicketDimensions(ticket.status, ticket.category.id, ticket.priority.id) " +
+        "from Ticket ticket where ticket.id = :id"
+    )
+    Optional<TicketDimensions> findDimensionsByIdForUpdate(@Param("id") Long id);
+
+    @Query("select ticket.version from Ticket ticket where ticket.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Replace every updatable field of a ticket and bump its version, in a single statement.
+     *
+     * @return the number of updated rows: 0 if there is no such ticket or if {@code expectedVersion} is not {@code null} and does not match.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Ticket ticket set ticket.title = :title, ticket.description = :description, ticket.creationDate = :creationDate, ticket.status = :status, ticket.category = :category, ticket.priority = :priority, ticket.user = :user, ticket.version = ticket.version + 1 where ticket.id = :id and (:expectedVersion is null or ticket.version = :expectedVersion)")
+    int updateIfVersionMatches(
+        @Param("id") Long id,
+        @Param("expectedVersion") Long expectedVersion,
+        @Param("title") String title,
+        @Param("description") String description,
+        @Param("creationDate") Instant creationDate,
+        @Param("status") TicketStatus status,
+        @Param("category") TicketCategory category,
+        @Param("priority") TicketPriority priority,
+        @Param("user") User user
+    );
+
+    /**
+     * Same as {@link #updateIfVersionMatches}, but {@code null} values leave the current ones untouched.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Ticket ticket set ticket.title = coalesce(:title, ticket.title), ticket.description = coalesce(:description, ticket.description), ticket.creationDate = coalesce(:creationDate, ticket.creationDate), ticket.status = coalesce(:status, ticket.status), ticket.version = ticket.version + 1 where ticket.id = :id and (:expectedVersion is null or ticket.version = :expectedVersion)")
+    int partialUpdateIfVersionMatches(
+        @Param("id") Long id,
+        @Param("expectedVersion") Long expectedVersion,
+        @Param("title") String title,
+        @Param("description") String description,
+        @Param("creationDate") Instant creationDate,
+        @Param("status") TicketStatus status
+    );
 }
@@ -0,0 +1,106 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A read-only projection of a {@link com.mycompany.myapp.domain.Ticket}, with only the columns shown by list views.
+ * <p>
+ * Instances are built directly by a JPQL constructor expression, so no entity is hydrated.
+ */
+public class TicketSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+
+    private final String title;
+
+    private final TicketStatus status;
+
+    private final Instant creationDate;
+
+    private final String categoryName;
+
+    private final String priorityName;
+
+    private final String userLogin;
+
+    public TicketSummary(
+        Long id,
+        String title,
+        TicketStatus status,
+        Instant creationDate,
+        String categoryName,
+        String priorityName,
+        String userLogin
+    ) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.creationDate = creationDate;
+        this.categoryName = categoryName;
+        this.priorityName = priorityName;
+        this.userLogin = userLogin;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreationDate() {
+        return creationDate;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getPriorityName() {
+        return priorityName;
+    }
+
+    public String getUserLogin() {
+        return userLogin;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TicketSummary)) {
+            return false;
+        }
+        return id != null && id.equals(((TicketSummary) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketSummary{" +
+            "id=" + getId() +
+            ", title='" + getTitle() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", creationDate='" + getCreationDate() + "'" +
+            ", categoryName='" + getCategoryName() + "'" +
+            ", priorityName='" + getPriorityName() + "'" +
+            ", userLogin='" + getUserLogin() + "'" +
+            "}";
+    }
+}
@@ -32,5 +32,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Cacheable(cacheNames = USERS_BY_EMAIL_CACHE, unless = "#result == null")
     Optional<User> findOneWithAuthoritiesByEmailIgnoreCase(String email);
 
+    // Not cached: authentication caches the principals built from these instead
+    @EntityGraph(attributePaths = "authorities")
+    Optional<User> findPrincipalByLogin(String login);
+
+    @EntityGraph(attributePaths = "authorities")
+    Optional<User> findPrincipalByEmailIgnoreCase(String email);
+
     Page<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
 }
@@ -0,0 +1,113 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} remembering the tokens it has already verified, so that a client sending the same token with
+ * every request only has its signature checked and its claims parsed once.
+ * <p>
+ * Tokens are keyed by their SHA-256 hash rather than kept as is, and dropped from the cache when they expire. Only
+ * successfully decoded tokens are cached: failures always go through the delegate. When full, the cache first drops the
+ * expired tokens, then the tenth of the tokens expiring soonest.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final int maxSize;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    private final Map<String, Jwt> cache = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, SecurityMetersService metersService, Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.metersService = metersService;
+        this.clock = clock;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Instant now = clock.instant();
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            if (isValidAt(cached, now)) {
+                metersService.trackTokenCacheHit();
+                return cached;
+            }
+            cache.remove(key, cached);
+        }
+        metersService.trackTokenCacheMiss();
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && isValidAt(jwt, now)) {
+            if (cache.size() >= maxSize) {
+                evict(now);
+            }
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * @return the number of cached tokens.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private static boolean isValidAt(Jwt jwt, Instant now) {
+        return now.isBefore(jwt.getExpiresAt());
+    }
+
+    private void evict(Instant now) {
+        // A single thread makes room, the others add their token meanwhile
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            cache.values().removeIf(jwt -> !isValidAt(jwt, now));
+            int excess = cache.size() - maxSize + Math.max(1, maxSize / 10);
+            if (excess > 0) {
+                List<String> soonestExpiring = cache
+                    .entrySet()
+                    .stream()
+                    .sorted(Comparator.comparing(entry -> entry.getValue().getExpiresAt()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList();
+                soonestExpiring.forEach(cache::remove);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
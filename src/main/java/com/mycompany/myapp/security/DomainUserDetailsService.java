@@ -4,12 +4,16 @@ import com.mycompany.myapp.domain.Authority;
 import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.repository.UserRepository;
 import java.util.*;
+import java.util.function.Function;
 import org.hibernate.validator.internal.constraintvalidators.hv.EmailValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
@@ -17,42 +21,88 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Authenticate a user from the database.
+ * <p>
+ * Users are cached as {@link PrincipalSnapshot}s, by login and by email, so that authenticating a known user neither
+ * queries the database nor copies a {@link User} entity. The caches are cleared by
+ * {@link com.mycompany.myapp.service.UserService} whenever a user changes.
+ * <p>
+ * Also stores the passwords rehashed on login, when their hash is weaker than the current password encoder's.
  */
 @Component("userDetailsService")
-public class DomainUserDetailsService implements UserDetailsService {
+public class DomainUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    public static final String PRINCIPALS_BY_LOGIN_CACHE = "principalsByLogin";
+
+    public static final String PRINCIPALS_BY_EMAIL_CACHE = "principalsByEmail";
 
     private static final Logger LOG = LoggerFactory.getLogger(DomainUserDetailsService.class);
 
     private final UserRepository userRepository;
 
-    public DomainUserDetailsService(UserRepository userRepository) {
+    private final CacheManager cacheManager;
+
+    public DomainUserDetailsService(UserRepository userRepository, CacheManager cacheManager) {
         this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(final String login) {
         LOG.debug("Authenticating {}", login);
 
         if (new EmailValidator().isValid(login, null)) {
-            return userRepository
-                .findOneWithAuthoritiesByEmailIgnoreCase(login)
-                .map(user -> createSpringSecurityUser(login, user))
+            String lowercaseEmail = login.toLowerCase(Locale.ENGLISH);
+            return loadPrincipal(PRINCIPALS_BY_EMAIL_CACHE, lowercaseEmail, userRepository::findPrincipalByEmailIgnoreCase)
+                .map(principal -> createSpringSecurityUser(login, principal))
                 .orElseThrow(() -> new UsernameNotFoundException("User with email " + login + " was not found in the database"));
         }
 
         String lowercaseLogin = login.toLowerCase(Locale.ENGLISH);
-        return userRepository
-            .findOneWithAuthoritiesByLogin(lowercaseLogin)
-            .map(user -> createSpringSecurityUser(lowercaseLogin, user))
+        return loadPrincipal(PRINCIPALS_BY_LOGIN_CACHE, lowercaseLogin, userRepository::findPrincipalByLogin)
+            .map(principal -> createSpringSecurityUser(lowercaseLogin, principal))
             .orElseThrow(() -> new UsernameNotFoundException("User " + lowercaseLogin + " was not found in the database"));
     }
 
-    private org.springframework.security.core.userdetails.User createSpringSecurityUser(String lowercaseLogin, User user) {
-        if (!user.isActivated()) {
+    private Optional<PrincipalSnapshot> loadPrincipal(String cacheName, String key, Function<String, Optional<User>> loader) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        PrincipalSnapshot principal = cache.get(key, PrincipalSnapshot.class);
+        if (principal != null) {
+            return Optional.of(principal);
+        }
+        // Unknown users are not cached, so that guessing logins cannot fill the cache
+        Optional<PrincipalSnapshot> loaded = loader.apply(key).map(PrincipalSnapshot::of);
+        loaded.ifPresent(snapshot -> cache.put(key, snapshot));
+        return loaded;
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        LOG.debug("Rehashing the password of {}", userDetails.getUsername());
+        return userRepository
+            .findOneByLogin(userDetails.getUsername())
+            .map(user -> {
+                user.setPassword(newPassword);
+                userRepository.save(user);
+                Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).evictIfPresent(user.getLogin());
+                Objects.requireNonNull(cacheManager.getCache(PRINCIPALS_BY_LOGIN_CACHE)).evictIfPresent(user.getLogin());
+                if (user.getEmail() != null) {
+                    Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE)).evictIfPresent(user.getEmail());
+                    Objects.requireNonNull(cacheManager.getCache(PRINCIPALS_BY_EMAIL_CACHE)).evictIfPresent(user.getEmail());
+                }
+                return (UserDetails) UserWithId.fromUser(user);
+            })
+            .orElse(userDetails);
+    }
+
+    private org.springframework.security.core.userdetails.User createSpringSecurityUser(
+        String lowercaseLogin,
+        PrincipalSnapshot principal
+    ) {
+        if (!principal.activated()) {
             throw new UserNotActivatedException("User " + lowercaseLogin + " was not activated");
         }
-        return UserWithId.fromUser(user);
+        return UserWithId.fromPrincipal(principal);
     }
 
     public static class UserWithId extends org.springframework.security.core.userdetails.User {
@@ -78,6 +128,15 @@ public class DomainUserDetailsService implements UserDetailsService {
             return super.hashCode();
         }
 
+        public static UserWithId fromPrincipal(PrincipalSnapshot principal) {
+            return new UserWithId(
+                principal.login(),
+                principal.password(),
+                principal.authorities().stream().map(SimpleGrantedAuthority::new).toList(),
+                principal.id()
+            );
+        }
+
         public static UserWithId fromUser(User user) {
             return new UserWithId(
                 user.getLogin(),
@@ -0,0 +1,164 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Token buckets limiting the login attempts made for each login, and from each client address.
+ * <p>
+ * Each bucket allows a burst of attempts, then refills at a steady rate: a user mistyping a password a few times is
+ * not bothered, while guessing the password of a login, or trying many credentials from a single address, is slowed
+ * down to the refill rate before any password is hashed. Full buckets are dropped when too many keys are tracked, as
+ * they are equivalent to new ones, then the buckets with the most attempts left: spraying new keys cannot make the
+ * limiter forget a key it is throttling.
+ */
+public class LoginAttemptLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoginAttemptLimiter.class);
+
+    private final Buckets loginBuckets;
+
+    private final Buckets clientBuckets;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    public LoginAttemptLimiter(
+        int loginBurst,
+        int loginAttemptsPerMinute,
+        int clientBurst,
+        int clientAttemptsPerMinute,
+        int maxTrackedKeys,
+        SecurityMetersService metersService,
+        Clock clock
+    ) {
+        this.loginBuckets = new Buckets("logins", loginBurst, loginAttemptsPerMinute, maxTrackedKeys);
+        this.clientBuckets = new Buckets("client addresses", clientBurst, clientAttemptsPerMinute, maxTrackedKeys);
+        this.metersService = metersService;
+        this.clock = clock;
+    }
+
+    /**
+     * Take a login attempt from the buckets of a login and of a client address.
+     *
+     * @param login the login the attempt is made for.
+     * @param clientAddress the address the attempt is made from.
+     * @return {@link Duration#ZERO} if the attempt is allowed, otherwise how long to wait before the next one is.
+     */
+    public Duration tryAcquire(String login, String clientAddress) {
+        long now = clock.millis();
+        long waitMs = clientBuckets.tryAcquire(clientAddress, now);
+        if (waitMs > 0) {
+            metersService.trackClientThrottled();
+            return Duration.ofMillis(waitMs);
+        }
+        waitMs = loginBuckets.tryAcquire(login.toLowerCase(Locale.ENGLISH), now);
+        if (waitMs > 0) {
+            metersService.trackLoginThrottled();
+            return Duration.ofMillis(waitMs);
+        }
+        return Duration.ZERO;
+    }
+
+    private static final class Buckets {
+
+        private final String name;
+
+        private final int burst;
+
+        private final double refillIntervalMs;
+
+        private final int maxSize;
+
+        private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+        private final ReentrantLock evictionLock = new ReentrantLock();
+
+        private Buckets(String name, int burst, int attemptsPerMinute, int maxSize) {
+            this.name = name;
+            this.burst = burst;
+            this.refillIntervalMs = 60_000d / attemptsPerMinute;
+            this.maxSize = maxSize;
+        }
+
+        private long tryAcquire(String key, long now) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= maxSize) {
+                    evict(now);
+                }
+                bucket = buckets.computeIfAbsent(key, k -> new Bucket(burst, now));
+            }
+            return bucket.tryAcquire(now);
+        }
+
+        private void evict(long now) {
+            if (!evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+                if (buckets.size() >= maxSize) {
+                    LOG.warn("Too many {} are making login attempts, forgetting about the ones with the most attempts left", name);
+                    // Down to a tenth below the limit, so that a stream of new keys does not sort the buckets for each of them
+                    int excess = buckets.size() - (maxSize - Math.max(1, maxSize / 10));
+                    buckets
+                        .entrySet()
+                        .stream()
+                        .map(entry -> Map.entry(entry.getKey(), entry.getValue().available(now)))
+                        .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                        .limit(excess)
+                        .forEach(entry -> buckets.remove(entry.getKey()));
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+
+        private final class Bucket {
+
+            private double tokens;
+
+            private long refilledAt;
+
+            private Bucket(double tokens, long refilledAt) {
+                this.tokens = tokens;
+                this.refilledAt = refilledAt;
+            }
+
+            private synchronized long tryAcquire(long now) {
+                refill(now);
+                if (tokens >= 1) {
+                    tokens--;
+                    return 0;
+                }
+                return (long) Math.ceil((1 - tokens) * refillIntervalMs);
+            }
+
+            private synchronized boolean isFull(long now) {
+                return available(now) >= burst;
+            }
+
+            private synchronized double available(long now) {
+                refill(now);
+                return tokens;
+            }
+
+            private void refill(long now) {
+                if (now > refilledAt) {
+                    tokens = Math.min(burst, tokens + (now - refilledAt) / refillIntervalMs);
+                    refilledAt = now;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} hashing passwords on a dedicated, bounded pool of threads rather than on the calling one.
+ * <p>
+ * Password hashes are deliberately expensive to compute: bounding the number of threads computing them keeps a burst
+ * of logins from taking every processor away from the rest of the traffic. A password that cannot be queued, or that
+ * waits longer than the queue timeout for a thread, is not hashed and fails with a
+ * {@link PasswordHashingBusyException}. The calling thread still waits for the hash to be computed.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+
+    private final long queueTimeoutMs;
+
+    private final SecurityMetersService metersService;
+
+    private final ThreadPoolExecutor executor;
+
+    public OffloadingPasswordEncoder(
+        PasswordEncoder delegate,
+        int threads,
+        int queueCapacity,
+        long queueTimeoutMs,
+        SecurityMetersService metersService
+    ) {
+        this.delegate = delegate;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.metersService = metersService;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T hash(Callable<T> hashing) {
+        FutureTask<T> task = new FutureTask<>(() -> {
+            long start = System.nanoTime();
+            try {
+                return hashing.call();
+            } finally {
+                metersService.trackPasswordHashing(System.nanoTime() - start);
+            }
+        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            metersService.trackPasswordHashingBusy();
+            throw new PasswordHashingBusyException("Too many passwords are waiting to be hashed", e);
+        }
+        try {
+            try {
+                return task.get(queueTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Only the time spent waiting for a thread is bounded: a hash already being computed is waited for
+                if (executor.remove(task)) {
+                    metersService.trackPasswordHashingBusy();
+                    throw new PasswordHashingBusyException("Timed out waiting for a password hashing thread", e);
+                }
+                return task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.remove(task);
+            throw new PasswordHashingBusyException("Interrupted while waiting for a password to be hashed", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return the number of passwords waiting for a hashing thread.
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,19 @@
+package com.mycompany.myapp.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * This exception is thrown when a password cannot be hashed because all the hashing threads are busy.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable t) {
+        super(message, t);
+    }
+}
@@ -0,0 +1,38 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.User;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * What authenticating a {@link User} needs to know about it, as cached by {@link DomainUserDetailsService}.
+ *
+ * @param id the id of the user.
+ * @param login the login of the user.
+ * @param password the password hash of the user.
+ * @param activated whether the user is activated.
+ * @param authorities the names of the authorities of the user.
+ */
+public record PrincipalSnapshot(Long id, String login, String password, boolean activated, List<String> authorities)
+    implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public PrincipalSnapshot {
+        authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * @param user a user, with its authorities loaded.
+     * @return the snapshot of the user.
+     */
+    public static PrincipalSnapshot of(User user) {
+        return new PrincipalSnapshot(
+            user.getId(),
+            user.getLogin(),
+            user.getPassword(),
+            user.isActivated(),
+            user.getAuthorities().stream().map(Authority::getName).toList()
+        );
+    }
+}
@@ -0,0 +1,285 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.MailOutboxEntry;
+import com.mycompany.myapp.domain.enumeration.MailStatus;
+import com.mycompany.myapp.repository.MailOutboxEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Service sending the emails queued in the mail outbox by {@link MailService}.
+ * <p>
+ * Due mails are claimed in batches, and each batch is sent over a single SMTP connection, outside of any transaction.
+ * A claimed mail is leased rather than kept locked: if the sender dies while sending it, the mail is attempted again
+ * once the lease expires, so mails are sent at least once. Failed mails are retried with an exponential backoff, and
+ * given up on after a number of attempts. Mails given up on are kept for diagnosis, then pruned, as their content may
+ * hold activation and password reset links.
+ * <p>
+ * The number of SMTP connections is bounded by a semaphore rather than by the threads calling {@link #drain()}, which
+ * may be many when running on virtual threads.
+ */
+@Service
+public class MailOutboxService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MailOutboxService.class);
+
+    public static final String DEPTH_METER_NAME = "mail.outbox.depth";
+    public static final String AGE_METER_NAME = "mail.outbox.age";
+    public static final String DELIVERIES_METER_NAME = "mail.outbox.deliveries";
+    public static final String DELIVERIES_METER_OUTCOME_DIMENSION = "outcome";
+
+    private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    private final MailOutboxEntryRepository mailOutboxEntryRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties.Mail properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Semaphore smtpConnections;
+
+    private final Counter sentCounter;
+
+    private final Counter retriedCounter;
+
+    private final Counter abandonedCounter;
+
+    private final AtomicLong depth = new AtomicLong();
+
+    private volatile Instant oldestPendingAt;
+
+    public MailOutboxService(
+        MailOutboxEntryRepository mailOutboxEntryRepository,
+        JavaMailSender javaMailSender,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry registry
+    ) {
+        this.mailOutboxEntryRepository = mailOutboxEntryRepository;
+        this.javaMailSender = javaMailSender;
+        this.jHipsterProperties = jHipsterProperties;
+        this.properties = applicationProperties.getMail();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.smtpConnections = new Semaphore(properties.getMaxConnections(), true);
+        Gauge.builder(DEPTH_METER_NAME, depth, AtomicLong::get)
+            .baseUnit("mails")
+            .description("Number of mails waiting to be sent, as of the last run of the sender.")
+            .register(registry);
+        TimeGauge.builder(AGE_METER_NAME, this, TimeUnit.MILLISECONDS, MailOutboxService::getOldestPendingAgeMs)
+            .description("Time the oldest mail waiting to be sent has been queued for.")
+            .register(registry);
+        this.sentCounter = deliveriesCounterForOutcomeBuilder("sent").register(registry);
+        this.retriedCounter = deliveriesCounterForOutcomeBuilder("retried").register(registry);
+        this.abandonedCounter = deliveriesCounterForOutcomeBuilder("abandoned").register(registry);
+    }
+
+    private Counter.Builder deliveriesCounterForOutcomeBuilder(String outcome) {
+        return Counter.builder(DELIVERIES_METER_NAME)
+            .baseUnit("mails")
+            .description("Number of attempts to send a mail, by outcome.")
+            .tag(DELIVERIES_METER_OUTCOME_DIMENSION, outcome);
+    }
+
+    private double getOldestPendingAgeMs() {
+        Instant oldest = oldestPendingAt;
+        return oldest == null ? 0 : Math.max(0, Instant.now().toEpochMilli() - oldest.toEpochMilli());
+    }
+
+    /**
+     * Send the due mails, one batch per SMTP connection.
+     * <p>
+     * The run stops at the first batch of which no mail could be sent, as the SMTP server is most likely unavailable.
+     *
+     * @return the number of sent mails.
+     */
+    @Scheduled(fixedDelayString = "${application.mail.drain-interval-ms:5000}")
+    public int drain() {
+        int sent = 0;
+        List<MailOutboxEntry> batch;
+        do {
+            batch = transactionTemplate.execute(status -> claimBatch());
+            if (batch.isEmpty()) {
+                break;
+            }
+            int batchSent = sendBatch(batch);
+            sent += batchSent;
+            if (batchSent == 0) {
+                break;
+            }
+        } while (batch.size() == properties.getBatchSize());
+        refreshQueueMetrics();
+        if (sent > 0) {
+            LOG.debug("Sent {} queued emails", sent);
+        }
+        return sent;
+    }
+
+    private List<MailOutboxEntry> claimBatch() {
+        Instant now = Instant.now();
+        Instant leaseEnd = now.plusMillis(properties.getLeaseMs());
+        List<MailOutboxEntry> entries = mailOutboxEntryRepository.findDueForUpdate(now, Limit.of(properties.getBatchSize()));
+        for (MailOutboxEntry entry : entries) {
+            entry.attempts(entry.getAttempts() + 1).nextAttemptAt(leaseEnd);
+        }
+        return entries;
+    }
+
+    private int sendBatch(List<MailOutboxEntry> entries) {
+        Map<MimeMessage, MailOutboxEntry> messages = new LinkedHashMap<>();
+        // Mails that cannot be prepared, such as those with an invalid address, will not do better next time
+        Map<Long, Exception> rejected = new HashMap<>();
+        for (MailOutboxEntry entry : entries) {
+            try {
+                messages.put(toMimeMessage(entry), entry);
+            } catch (MessagingException e) {
+                rejected.put(entry.getId(), e);
+            }
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        if (!messages.isEmpty()) {
+            failedMessages = send(messages);
+        }
+
+        List<Long> sent = new ArrayList<>();
+        Map<Long, Exception> failed = new HashMap<>();
+        for (Map.Entry<MimeMessage, MailOutboxEntry> message : messages.entrySet()) {
+            Exception error = failedMessages.get(message.getKey());
+            if (error == null) {
+                sent.add(message.getValue().getId());
+            } else {
+                failed.put(message.getValue().getId(), error);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> complete(sent, failed, rejected));
+        return sent.size();
+    }
+
+    private Map<Object, Exception> send(Map<MimeMessage, MailOutboxEntry> messages) {
+        try {
+            smtpConnections.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return allFailed(messages, e);
+        }
+        try {
+            // Opens a single connection for all the messages
+            javaMailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            return Map.of();
+        } catch (MailSendException e) {
+            return e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            return allFailed(messages, e);
+        } finally {
+            smtpConnections.release();
+        }
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, MailOutboxEntry> messages, Exception error) {
+        Map<Object, Exception> failedMessages = new HashMap<>();
+        messages.keySet().forEach(message -> failedMessages.put(message, error));
+        return failedMessages;
+    }
+
+    private MimeMessage toMimeMessage(MailOutboxEntry entry) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, entry.getMultipart(), StandardCharsets.UTF_8.name());
+        message.setTo(entry.getRecipient());
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(entry.getSubject());
+        message.setText(entry.getContent(), entry.getHtml());
+        return mimeMessage;
+    }
+
+    private void complete(List<Long> sent, Map<Long, Exception> failed, Map<Long, Exception> rejected) {
+        if (!sent.isEmpty()) {
+            mailOutboxEntryRepository.deleteAllByIdInBatch(sent);
+            sentCounter.increment(sent.size());
+        }
+        Map<Long, Exception> errors = new HashMap<>(failed);
+        errors.putAll(rejected);
+        Instant now = Instant.now();
+        for (MailOutboxEntry entry : mailOutboxEntryRepository.findAllById(errors.keySet())) {
+            Exception error = errors.get(entry.getId());
+            entry.lastError(StringUtils.abbreviate(String.valueOf(error), LAST_ERROR_MAX_LENGTH));
+            if (rejected.containsKey(entry.getId()) || entry.getAttempts() >= properties.getMaxAttempts()) {
+                LOG.warn("Email could not be sent to user '{}' after {} attempts, giving up", entry.getRecipient(), entry.getAttempts(), error);
+                // For a mail given up on, the next attempt time records when it was given up on, for pruning
+                entry.status(MailStatus.FAILED).nextAttemptAt(now);
+                abandonedCounter.increment();
+            } else {
+                LOG.debug("Email could not be sent to user '{}', will retry : {}", entry.getRecipient(), error.getMessage());
+                entry.nextAttemptAt(now.plusMillis(backoffMs(entry.getAttempts())));
+                retriedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Delete the mails given up on longer ago than the retention, in bounded chunks.
+     *
+     * @return the number of deleted mails.
+     */
+    @Scheduled(fixedDelayString = "${application.mail.prune-interval-ms:3600000}")
+    public long prune() {
+        Instant failedBefore = Instant.now().minusMillis(properties.getFailedRetentionMs());
+        long pruned = 0;
+        List<Long> ids;
+        do {
+            ids = mailOutboxEntryRepository.findFailedIdsBefore(failedBefore, Limit.of(properties.getPruneChunkSize()));
+            if (!ids.isEmpty()) {
+                List<Long> chunk = ids;
+                transactionTemplate.executeWithoutResult(status -> mailOutboxEntryRepository.deleteAllByIdInBatch(chunk));
+                pruned += ids.size();
+            }
+        } while (ids.size() == properties.getPruneChunkSize());
+        if (pruned > 0) {
+            LOG.debug("Pruned {} emails given up on before {}", pruned, failedBefore);
+        }
+        return pruned;
+    }
+
+    private long backoffMs(int attempts) {
+        // Capped shift: the delay reaches its maximum long before the shift could overflow
+        long backoff = properties.getInitialBackoffMs() << Math.min(attempts - 1, 20);
+        return Math.min(backoff, properties.getMaxBackoffMs());
+    }
+
+    private void refreshQueueMetrics() {
+        depth.set(mailOutboxEntryRepository.countByStatus(MailStatus.PENDING));
+        oldestPendingAt = mailOutboxEntryRepository.findOldestCreatedAt(MailStatus.PENDING).orElse(null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.ReferenceDataGeneration;
+import com.mycompany.myapp.repository.ReferenceDataGenerationRepository;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service keeping a generation counter for each collection of reference data, moved by every write to the collection.
+ * <p>
+ * The generation of a collection identifies its current content, so that its version can be checked with a single
+ * lookup by primary key instead of reading the whole collection. Generations are stored in the database and moved in
+ * the same transaction as the write: all the nodes agree on them, they survive restarts, and readers keep seeing the
+ * previous generation until the write has committed. Writes made outside of the application must move the generation
+ * themselves, or are not noticed by clients that already hold the collection.
+ */
+@Service
+@Transactional
+public class ReferenceDataGenerationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReferenceDataGenerationService.class);
+
+    /**
+     * A generation of a collection.
+     *
+     * @param value the generation counter, unique for the content of the collection.
+     * @param lastModified the time the collection was last changed.
+     */
+    public record Generation(long value, Instant lastModified) {}
+
+    private final ReferenceDataGenerationRepository referenceDataGenerationRepository;
+
+    public ReferenceDataGenerationService(ReferenceDataGenerationRepository referenceDataGenerationRepository) {
+        this.referenceDataGenerationRepository = referenceDataGenerationRepository;
+    }
+
+    /**
+     * @return the current generation of the ticket categories.
+     */
+    @Transactional(readOnly = true)
+    public Generation getCategories() {
+        return get(ReferenceDataGeneration.TICKET_CATEGORIES);
+    }
+
+    /**
+     * @return the current generation of the ticket priorities.
+     */
+    @Transactional(readOnly = true)
+    public Generation getPriorities() {
+        return get(ReferenceDataGeneration.TICKET_PRIORITIES);
+    }
+
+    /**
+     * Move the generation of the ticket categories, as part of the current transaction.
+     */
+    public void categoriesChanged() {
+        LOG.debug("Ticket categories changed");
+        increment(ReferenceDataGeneration.TICKET_CATEGORIES);
+    }
+
+    /**
+     * Move the generation of the ticket priorities, as part of the current transaction.
+     */
+    public void prioritiesChanged() {
+        LOG.debug("Ticket priorities changed");
+        increment(ReferenceDataGeneration.TICKET_PRIORITIES);
+    }
+
+    private Generation get(String name) {
+        return referenceDataGenerationRepository
+            .findById(name)
+            .map(generation -> new Generation(generation.getGeneration(), generation.getLastModified()))
+            .orElseThrow(() -> new IllegalStateException("No generation for " + name));
+    }
+
+    private void increment(String name) {
+        if (referenceDataGenerationRepository.increment(name, Instant.now()) == 0) {
+            throw new IllegalStateException("No generation for " + name);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.service.dto.TicketBatchItemResultDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for ingesting tickets in bulk.
+ * <p>
+ * Tickets are persisted in chunks of {@code hibernate.jdbc.batch_size}, each chunk in its own transaction,
+ * so that a failing item never rolls back more than its own chunk.
+ */
+@Service
+public class TicketBatchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketBatchService.class);
+
+    private final TicketService ticketService;
+
+    private final TicketValidationService ticketValidationService;
+
+    private final Validator validator;
+
+    private final int chunkSize;
+
+    public TicketBatchService(
+        TicketService ticketService,
+        TicketValidationService ticketValidationService,
+        Validator validator,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int chunkSize
+    ) {
+        this.ticketService = ticketService;
+        this.ticketValidationService = ticketValidationService;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return the number of tickets to hand over to {@link #saveChunk(List, int)} at once.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Validate and save a chunk of tickets.
+     * <p>
+     * Valid tickets are inserted together in one transaction. Should that transaction fail, they are
+     * retried one by one so that only the offending tickets are reported as failed.
+     *
+     * @param tickets the tickets to save.
+     * @param firstIndex the position of the first ticket in the submitted batch.
+     * @return the outcome of every ticket of the chunk, in order.
+     */
+    public List<TicketBatchItemResultDTO> saveChunk(List<Ticket> tickets, int firstIndex) {
+        LOG.debug("Request to save a chunk of {} Tickets starting at {}", tickets.size(), firstIndex);
+        TicketBatchItemResultDTO[] results = new TicketBatchItemResultDTO[tickets.size()];
+        List<Ticket> valid = new ArrayList<>(tickets.size());
+        List<Integer> validPositions = new ArrayList<>(tickets.size());
+        for (int i = 0; i < tickets.size(); i++) {
+            String error = validate(tickets.get(i));
+            if (error == null) {
+                valid.add(tickets.get(i));
+                validPositions.add(i);
+            } else {
+                results[i] = TicketBatchItemResultDTO.failed(firstIndex + i, error);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            try {
+                List<Ticket> saved = ticketService.saveAll(valid);
+                for (int i = 0; i < saved.size(); i++) {
+                    int position = validPositions.get(i);
+                    results[position] = TicketBatchItemResultDTO.created(firstIndex + position, saved.get(i).getId());
+                }
+            } catch (DataAccessException e) {
+                LOG.debug("Chunk starting at {} failed, retrying its tickets one by one: {}", firstIndex, e.getMessage());
+                for (int i = 0; i < valid.size(); i++) {
+                    int position = validPositions.get(i);
+                    results[position] = saveOne(valid.get(i), firstIndex + position);
+                }
+            }
+        }
+        return List.of(results);
+    }
+
+    private TicketBatchItemResultDTO saveOne(Ticket ticket, int index) {
+        // The failed chunk may have assigned an id before rolling back
+        ticket.setId(null);
+        try {
+            return TicketBatchItemResultDTO.created(index, ticketService.saveAll(List.of(ticket)).get(0).getId());
+        } catch (DataAccessException e) {
+            return TicketBatchItemResultDTO.failed(index, "Could not save ticket");
+        }
+    }
+
+    private String validate(Ticket ticket) {
+        if (ticket == null) {
+            return "A ticket is required";
+        }
+        if (ticket.getId() != null) {
+            return "A new ticket cannot already have an ID";
+        }
+        Set<ConstraintViolation<Ticket>> violations = validator.validate(ticket);
+        if (!violations.isEmpty()) {
+            return violations
+                .stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        }
+        try {
+            ticketValidationService.validateTicket(ticket);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,263 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.service.dto.TicketEventDTO;
+import com.mycompany.myapp.service.dto.TicketEventFilter;
+import com.mycompany.myapp.service.event.TicketChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service pushing committed ticket changes to Server-Sent Events subscribers.
+ * <p>
+ * Subscriptions are asynchronous requests: an idle subscriber holds a connection but no thread. Each change is
+ * serialized once, then queued to the bounded buffer of every matching subscriber. A dispatch thread drains the buffer
+ * of one subscriber at a time, so a client that is slow to read only ever holds its own thread, until the write
+ * timeout of the server fails its write. A subscriber whose buffer is full, or that finds every dispatch thread busy,
+ * is disconnected rather than slowing down the others; the {@code resync} event it gets when reconnecting tells it to
+ * reload its view.
+ * <p>
+ * Event ids are only meaningful to the instance that sent them: they are prefixed with an id drawn at startup, so a
+ * client reconnecting to another instance, or to a restarted one, is always asked to resync.
+ */
+@Service
+public class TicketEventService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketEventService.class);
+
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationProperties.Events properties;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+
+    private final AtomicLong lastEventId = new AtomicLong();
+
+    private final ExecutorService dispatchExecutor;
+
+    public TicketEventService(ObjectMapper objectMapper, ApplicationProperties applicationProperties) {
+        this.objectMapper = objectMapper;
+        this.properties = applicationProperties.getEvents();
+        AtomicInteger threadCount = new AtomicInteger();
+        // No queue: a dispatch waiting for a thread would wait behind a subscriber that is slow to read
+        this.dispatchExecutor = new ThreadPoolExecutor(
+            0,
+            properties.getDispatchThreads(),
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ticket-events-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    /**
+     * Subscribe to the changes of the tickets matching a filter.
+     *
+     * @param filter the tickets to hear about.
+     * @param lastEventId the id of the last event received before reconnecting, or {@code null} for a new subscriber.
+     * @return the emitter to return from the request handler.
+     */
+    public SseEmitter subscribe(TicketEventFilter filter, String lastEventId) {
+        LOG.debug("Request to subscribe to Ticket events : {}", filter);
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMs());
+        Subscriber subscriber = new Subscriber(emitter, filter, properties.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        String currentEventId = eventId(this.lastEventId.get());
+        if (lastEventId != null && !lastEventId.equals(currentEventId)) {
+            // Events are not kept, so a subscriber that may have missed some must reload instead
+            enqueue(subscriber, SseEmitter.event().id(currentEventId).name(RESYNC_EVENT).data("").build());
+        } else {
+            // Lets the client know the subscription is open, and flushes the response headers
+            enqueue(subscriber, HEARTBEAT);
+        }
+        return emitter;
+    }
+
+    /**
+     * @return the number of open subscriptions.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener
+    public void onTicketChanged(TicketChangedEvent event) {
+        // Numbered even without subscribers, so that reconnecting clients know they missed it
+        long eventId = lastEventId.incrementAndGet();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Ticket ticket = event.getTicket();
+        Long userId = ticket.getUser() != null ? ticket.getUser().getId() : null;
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                .id(eventId(eventId))
+                .name(event.getType().name())
+                .data(objectMapper.writeValueAsString(toEventDTO(event, userId)), MediaType.APPLICATION_JSON)
+                .build();
+        } catch (JsonProcessingException e) {
+            LOG.warn("Could not serialize {}", event, e);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter.matches(event.getPrevious(), event.getCurrent(), userId)) {
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    private String eventId(long sequence) {
+        return instanceId + "-" + sequence;
+    }
+
+    private static TicketEventDTO toEventDTO(TicketChangedEvent event, Long userId) {
+        Ticket ticket = event.getTicket();
+        TicketEventDTO dto = new TicketEventDTO();
+        dto.setType(event.getType());
+        dto.setId(event.getTicketId());
+        dto.setVersion(ticket.getVersion());
+        dto.setTitle(ticket.getTitle());
+        dto.setStatus(ticket.getStatus());
+        dto.setCategoryId(ticket.getCategory() != null ? ticket.getCategory().getId() : null);
+        dto.setPriorityId(ticket.getPriority() != null ? ticket.getPriority().getId() : null);
+        dto.setUserId(userId);
+        return dto;
+    }
+
+    /**
+     * Keep idle connections open through proxies, and detect the ones closed by clients.
+     */
+    @Scheduled(fixedRateString = "${application.events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer.isEmpty()) {
+                enqueue(subscriber, HEARTBEAT);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.buffer.offer(frame)) {
+            LOG.debug("Disconnecting a slow Ticket events subscriber : {}", subscriber.filter);
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.dispatching.compareAndSet(false, true)) {
+            try {
+                dispatchExecutor.execute(() -> dispatch(subscriber));
+            } catch (RejectedExecutionException e) {
+                LOG.debug("No thread left to dispatch Ticket events, disconnecting a subscriber : {}", subscriber.filter);
+                subscriber.dispatching.set(false);
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    private void dispatch(Subscriber subscriber) {
+        do {
+            Set<DataWithMediaType> frame;
+            while (!subscriber.closed && (frame = subscriber.buffer.poll()) != null) {
+                try {
+                    subscriber.emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away, its write timed out, or the emitter was completed meanwhile
+                    LOG.trace("Could not send a Ticket event, removing the subscriber", e);
+                    subscribers.remove(subscriber);
+                    subscriber.close();
+                }
+            }
+            if (subscriber.closed) {
+                // Still flagged as dispatching, so that nothing else touches the emitter
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.dispatching.set(false);
+            // A frame enqueued, or a disconnection requested, after the last poll but before the flag was cleared
+            // would not be handled otherwise
+        } while ((!subscriber.buffer.isEmpty() || subscriber.closed) && subscriber.dispatching.compareAndSet(false, true));
+    }
+
+    /**
+     * Remove a subscriber without ever waiting for a write to it: a dispatch thread busy with the subscriber completes
+     * the emitter itself once its write returns.
+     */
+    private void disconnect(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.close();
+            if (subscriber.dispatching.compareAndSet(false, true)) {
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(this::disconnect);
+        dispatchExecutor.shutdownNow();
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final TicketEventFilter filter;
+
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+
+        private final AtomicBoolean dispatching = new AtomicBoolean();
+
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, TicketEventFilter filter, int bufferSize) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void close() {
+            closed = true;
+            buffer.clear();
+        }
+    }
+}
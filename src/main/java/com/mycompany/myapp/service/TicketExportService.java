@@ -0,0 +1,261 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.service.criteria.TicketCriteria;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service exporting the {@link Ticket}s matching a {@link TicketCriteria} as CSV or newline-delimited JSON.
+ * <p>
+ * Rows are read through a forward-only cursor of a read-only {@link StatelessSession} and written as soon as they
+ * are read: nothing is kept in a persistence context, so memory usage does not depend on the number of tickets.
+ * The database connection is held until the export is complete.
+ */
+@Service
+public class TicketExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketExportService.class);
+
+    public enum Format {
+        CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+        NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+        private final String extension;
+
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * @param value the format as given in a request, such as {@code csv}.
+         * @return the matching format.
+         * @throws IllegalArgumentException if the format is not supported.
+         */
+        public static Format fromValue(String value) {
+            return Format.valueOf(value.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final String[] COLUMNS = {
+        "id",
+        "title",
+        "description",
+        "creationDate",
+        "status",
+        "categoryId",
+        "categoryName",
+        "priorityId",
+        "priorityName",
+        "userLogin",
+    };
+
+    private static final int WRITER_BUFFER_SIZE = 16 * 1024;
+
+    private final TicketQueryService ticketQueryService;
+
+    private final SessionFactory sessionFactory;
+
+    private final ObjectMapper objectMapper;
+
+    private final int fetchSize;
+
+    public TicketExportService(
+        TicketQueryService ticketQueryService,
+        EntityManagerFactory entityManagerFactory,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.ticketQueryService = ticketQueryService;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.objectMapper = objectMapper;
+        // Connector/J buffers the whole result whatever the fetch size, unless useCursorFetch is set on the connection,
+        // which would move every query of the pool to server-side cursors. Integer.MIN_VALUE instead streams the rows
+        // of this statement only, one by one, holding the connection until they are all read.
+        this.fetchSize = sessionFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof MySQLDialect
+            ? Integer.MIN_VALUE
+            : applicationProperties.getExport().getFetchSize();
+    }
+
+    /**
+     * Write the tickets matching the criteria, ordered by id, to the output.
+     *
+     * @param criteria the criteria which the exported tickets should match.
+     * @param format the format of the export.
+     * @param out the output to write to; it is flushed but not closed.
+     * @return the number of exported tickets.
+     * @throws IOException if the output cannot be written to.
+     */
+    public long export(TicketCriteria criteria, Format format, OutputStream out) throws IOException {
+        LOG.debug("Request to export Tickets as {} by criteria : {}", format, criteria);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.doWork(connection -> connection.setReadOnly(true));
+                long count = format == Format.CSV ? writeCsv(session, criteria, out) : writeNdjson(session, criteria, out);
+                transaction.commit();
+                LOG.debug("Exported {} Tickets as {}", count, format);
+                return count;
+            } finally {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+            }
+        }
+    }
+
+    private long writeCsv(StatelessSession session, TicketCriteria criteria, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE);
+        for (int column = 0; column < COLUMNS.length; column++) {
+            if (column > 0) {
+                writer.write(',');
+            }
+            writer.write(COLUMNS[column]);
+        }
+        writer.write("\r\n");
+        long count = 0;
+        try (ScrollableResults<Tuple> rows = scroll(session, criteria)) {
+            while (rows.next()) {
+                Tuple row = rows.get();
+                for (int column = 0; column < COLUMNS.length; column++) {
+                    if (column > 0) {
+                        writer.write(',');
+                    }
+                    writeCsvValue(writer, row.get(column));
+                }
+                writer.write("\r\n");
+                count++;
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quoted = false;
+        for (int i = 0; i < text.length() && !quoted; i++) {
+            char c = text.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quoted) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private long writeNdjson(StatelessSession session, TicketCriteria criteria, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // Closing the generator flushes it but leaves the response open
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            try (ScrollableResults<Tuple> rows = scroll(session, criteria)) {
+                while (rows.next()) {
+                    Tuple row = rows.get();
+                    generator.writeStartObject();
+                    generator.writeObjectField(COLUMNS[0], row.get(0));
+                    generator.writeStringField(COLUMNS[1], (String) row.get(1));
+                    generator.writeStringField(COLUMNS[2], (String) row.get(2));
+                    generator.writeStringField(COLUMNS[3], row.get(3) != null ? row.get(3).toString() : null);
+                    generator.writeStringField(COLUMNS[4], row.get(4) != null ? ((TicketStatus) row.get(4)).name() : null);
+                    generator.writeObjectField(COLUMNS[5], row.get(5));
+                    generator.writeStringField(COLUMNS[6], (String) row.get(6));
+                    generator.writeObjectField(COLUMNS[7], row.get(7));
+                    generator.writeStringField(COLUMNS[8], (String) row.get(8));
+                    generator.writeStringField(COLUMNS[9], (String) row.get(9));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private ScrollableResults<Tuple> scroll(StatelessSession session, TicketCriteria criteria) {
+        CriteriaBuilder builder = session.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Ticket> root = query.from(Ticket.class);
+        Join<Ticket, TicketCategory> category = root.join(Ticket_.category, JoinType.LEFT);
+        Join<Ticket, TicketPriority> priority = root.join(Ticket_.priority, JoinType.LEFT);
+        Join<Ticket, User> user = root.join(Ticket_.user, JoinType.LEFT);
+        List<Selection<?>> columns = List.of(
+            root.get(Ticket_.id),
+            root.get(Ticket_.title),
+            root.get(Ticket_.description),
+            root.get(Ticket_.creationDate),
+            root.get(Ticket_.status),
+            category.get(TicketCategory_.id),
+            category.get(TicketCategory_.name),
+            priority.get(TicketPriority_.id),
+            priority.get(TicketPriority_.name),
+            user.get(User_.login)
+        );
+        query.multiselect(columns);
+        Predicate predicate = ticketQueryService.createSpecification(criteria).toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(builder.asc(root.get(Ticket_.id)));
+        return session
+            .createQuery(query)
+            .setFetchSize(fetchSize)
+            .setReadOnly(true)
+            .scroll(ScrollMode.FORWARD_ONLY);
+    }
+}
@@ -0,0 +1,195 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.TicketOutboxEntry;
+import com.mycompany.myapp.domain.TicketOutboxRelayState;
+import com.mycompany.myapp.domain.enumeration.TicketChangeType;
+import com.mycompany.myapp.repository.TicketOutboxEntryRepository;
+import com.mycompany.myapp.repository.TicketOutboxRelayStateRepository;
+import com.mycompany.myapp.service.dto.TicketChangeDTO;
+import com.mycompany.myapp.service.event.TicketChangedEvent;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for the ticket outbox: a durable log of ticket changes, exposed to downstream systems as a change feed.
+ * <p>
+ * Entries are written in the transaction of the change itself, so a change is logged if and only if it is committed.
+ * A relay then numbers committed entries with a gap-free, increasing sequence: consumers can sync incrementally by
+ * asking for the entries after the last sequence number they processed, with a single range scan of the seq index.
+ * The relay runs on every node: each batch starts by locking the shared {@link TicketOutboxRelayState}, which also
+ * holds the last sequence number, so that batches are numbered one at a time across the cluster.
+ */
+@Service
+public class TicketOutboxService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketOutboxService.class);
+
+    private final TicketOutboxEntryRepository ticketOutboxEntryRepository;
+
+    private final TicketOutboxRelayStateRepository ticketOutboxRelayStateRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationProperties.Outbox properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TicketOutboxService(
+        TicketOutboxEntryRepository ticketOutboxEntryRepository,
+        TicketOutboxRelayStateRepository ticketOutboxRelayStateRepository,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.ticketOutboxEntryRepository = ticketOutboxEntryRepository;
+        this.ticketOutboxRelayStateRepository = ticketOutboxRelayStateRepository;
+        this.objectMapper = objectMapper;
+        this.properties = applicationProperties.getOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Log a ticket change in the transaction that makes it.
+     *
+     * @param event the change.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTicketChanged(TicketChangedEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event.getTicket());
+        } catch (JsonProcessingException e) {
+            // Failing the change is better than silently missing it downstream
+            throw new IllegalStateException("Could not serialize ticket " + event.getTicketId(), e);
+        }
+        ticketOutboxEntryRepository.save(
+            new TicketOutboxEntry()
+                .ticketId(event.getTicketId())
+                .changeType(TicketChangeType.valueOf(event.getType().name()))
+                .payload(payload)
+                .occurredAt(Instant.now())
+        );
+    }
+
+    /**
+     * Number the committed entries that are not relayed yet, one batch per transaction.
+     *
+     * @return the number of relayed entries.
+     */
+    @Scheduled(fixedDelayString = "${application.outbox.relay-interval-ms:1000}")
+    public int relay() {
+        int relayed = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> relayBatch());
+            relayed += batch;
+        } while (batch == properties.getRelayBatchSize());
+        if (relayed > 0) {
+            LOG.debug("Relayed {} ticket outbox entries", relayed);
+        }
+        return relayed;
+    }
+
+    private int relayBatch() {
+        // Locked first, so that the relays of other nodes wait here rather than number the same range
+        TicketOutboxRelayState state = ticketOutboxRelayStateRepository
+            .findByIdForUpdate(TicketOutboxRelayState.ID)
+            .orElseThrow(() -> new IllegalStateException("No ticket outbox relay state"));
+        List<TicketOutboxEntry> entries = ticketOutboxEntryRepository.findUnrelayedForUpdate(Limit.of(properties.getRelayBatchSize()));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        long seq = state.getLastSeq();
+        Instant now = Instant.now();
+        for (TicketOutboxEntry entry : entries) {
+            entry.seq(++seq).relayedAt(now);
+        }
+        state.lastSeq(seq);
+        return entries.size();
+    }
+
+    /**
+     * @return the sequence number of the last relayed entry, {@code 0} if none was ever relayed.
+     */
+    @Transactional(readOnly = true)
+    public long getLastSeq() {
+        return ticketOutboxRelayStateRepository
+            .findById(TicketOutboxRelayState.ID)
+            .map(TicketOutboxRelayState::getLastSeq)
+            .orElseThrow(() -> new IllegalStateException("No ticket outbox relay state"));
+    }
+
+    /**
+     * Delete the entries relayed longer ago than the retention, in bounded chunks.
+     *
+     * @return the number of deleted entries.
+     */
+    @Scheduled(fixedDelayString = "${application.outbox.prune-interval-ms:3600000}")
+    public long prune() {
+        Instant relayedBefore = Instant.now().minusMillis(properties.getRetentionMs());
+        long pruned = 0;
+        Optional<Long> fromSeq;
+        int deleted;
+        do {
+            fromSeq = ticketOutboxEntryRepository.findMinSeq();
+            if (fromSeq.isEmpty()) {
+                break;
+            }
+            // Sequence numbers are relayed in order, so entries old enough to be pruned come first
+            deleted = ticketOutboxEntryRepository.deleteRelayedBefore(
+                fromSeq.orElseThrow(),
+                fromSeq.orElseThrow() + properties.getPruneChunkSize(),
+                relayedBefore
+            );
+            pruned += deleted;
+        } while (deleted > 0);
+        if (pruned > 0) {
+            LOG.debug("Pruned {} ticket outbox entries relayed before {}", pruned, relayedBefore);
+        }
+        return pruned;
+    }
+
+    /**
+     * Get the changes after a sequence number, oldest first.
+     *
+     * @param after the sequence number of the last change already processed, {@code 0} to start from the oldest.
+     * @param limit the maximum number of changes to return.
+     * @return the changes.
+     * @throws IllegalStateException if changes right after {@code after} have already been pruned, in which case the
+     * consumer has to sync from scratch.
+     */
+    @Transactional(readOnly = true)
+    public List<TicketChangeDTO> findChangesAfter(long after, int limit) {
+        LOG.debug("Request to get Ticket changes after : {}", after);
+        List<TicketOutboxEntry> entries = ticketOutboxEntryRepository.findBySeqGreaterThanOrderBySeqAsc(after, Limit.of(limit));
+        if (after > 0 && !entries.isEmpty() && entries.get(0).getSeq() > after + 1) {
+            throw new IllegalStateException("Ticket changes after " + after + " have been pruned");
+        }
+        return entries.stream().map(TicketOutboxService::toChangeDTO).toList();
+    }
+
+    private static TicketChangeDTO toChangeDTO(TicketOutboxEntry entry) {
+        TicketChangeDTO change = new TicketChangeDTO();
+        change.setSeq(entry.getSeq());
+        change.setTicketId(entry.getTicketId());
+        change.setChangeType(entry.getChangeType());
+        change.setOccurredAt(entry.getOccurredAt());
+        change.setTicket(entry.getPayload());
+        return change;
+    }
+}
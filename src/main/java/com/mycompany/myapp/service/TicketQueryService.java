@@ -0,0 +1,160 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.repository.TicketRepository;
+import com.mycompany.myapp.service.criteria.TicketCriteria;
+import com.mycompany.myapp.service.dto.TicketCursor;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Ticket} entities in the database.
+ * The main input is a {@link TicketCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link Ticket} which fulfills the criteria.
+ * <p>
+ * The category and priority filters compare foreign key columns directly, without joining, so that the
+ * {@code (category_id, creation_date)} and {@code (priority_id, creation_date)} indexes can serve them.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TicketQueryService extends QueryService<Ticket> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketQueryService.class);
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc(Ticket_.CREATION_DATE), Sort.Order.desc(Ticket_.ID));
+
+    private final TicketRepository ticketRepository;
+
+    public TicketQueryService(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    /**
+     * Return a {@link Page} of {@link Ticket} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param eagerload whether to load the category, priority and user of the tickets.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Ticket> findByCriteria(TicketCriteria criteria, Pageable page, boolean eagerload) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        Specification<Ticket> specification = createSpecification(criteria);
+        if (eagerload) {
+            return TicketService.withCachedRelationships(ticketRepository.findAll(specification.and(fetchToOneRelationships()), page));
+        }
+        return ticketRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link Ticket} which matches the criteria, newest first, positioned by keyset instead of
+     * by offset.
+     * <p>
+     * No count query is issued: one extra row is fetched to know whether a next slice exists.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param after the position to continue from, or {@code null} for the first slice.
+     * @param size the maximum number of tickets to return.
+     * @return the matching entities, with their category, priority and user.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Ticket> findByCriteriaAfter(TicketCriteria criteria, TicketCursor after, int size) {
+        LOG.debug("find by criteria : {}, after: {}", criteria, after);
+        Specification<Ticket> specification = createSpecification(criteria).and(after(after)).and(fetchToOneRelationships());
+        List<Ticket> tickets = ticketRepository.findBy(specification, query -> query.sortBy(NEWEST_FIRST).limit(size + 1).all());
+        return TicketService.toSlice(TicketService.withCachedRelationships(tickets), size);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(TicketCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Ticket> specification = createSpecification(criteria);
+        return ticketRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link TicketCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Ticket> createSpecification(TicketCriteria criteria) {
+        Specification<Ticket> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                criteria.getId() != null ? buildRangeSpecification(criteria.getId(), Ticket_.id) : null,
+                criteria.getTitle() != null ? buildStringSpecification(criteria.getTitle(), Ticket_.title) : null,
+                criteria.getCreationDate() != null ? buildRangeSpecification(criteria.getCreationDate(), Ticket_.creationDate) : null,
+                criteria.getStatus() != null ? buildSpecification(criteria.getStatus(), Ticket_.status) : null,
+                criteria.getCategoryId() != null
+                    ? buildSpecification(criteria.getCategoryId(), root -> root.get(Ticket_.category).get(TicketCategory_.id))
+                    : null,
+                criteria.getPriorityId() != null
+                    ? buildSpecification(criteria.getPriorityId(), root -> root.get(Ticket_.priority).get(TicketPriority_.id))
+                    : null,
+                criteria.getUserId() != null ? buildSpecification(criteria.getUserId(), root -> root.get(Ticket_.user).get(User_.id)) : null,
+                criteria.getUserLogin() != null
+                    ? buildSpecification(criteria.getUserLogin(), root -> root.join(Ticket_.user, userJoinType(criteria)).get(User_.login))
+                    : null
+            );
+        }
+        return specification;
+    }
+
+    /**
+     * An inner join lets the database start from the user found by login, then use the {@code (user_id, creation_date)}
+     * index; only a filter on tickets without user needs an outer join.
+     */
+    private static JoinType userJoinType(TicketCriteria criteria) {
+        return Boolean.FALSE.equals(criteria.getUserLogin().getSpecified()) ? JoinType.LEFT : JoinType.INNER;
+    }
+
+    /**
+     * The tickets after a position in the newest first order. The redundant {@code creationDate <= :creationDate} gives
+     * the database a range to seek in the indexes ending with {@code creation_date}.
+     */
+    private static Specification<Ticket> after(TicketCursor cursor) {
+        return (root, query, builder) -> {
+            Path<Instant> creationDate = root.get(Ticket_.creationDate);
+            if (cursor == null) {
+                return builder.isNotNull(creationDate);
+            }
+            return builder.and(
+                builder.lessThanOrEqualTo(creationDate, cursor.getCreationDate()),
+                builder.or(
+                    builder.lessThan(creationDate, cursor.getCreationDate()),
+                    builder.and(builder.equal(creationDate, cursor.getCreationDate()), builder.lessThan(root.get(Ticket_.id), cursor.getId()))
+                )
+            );
+        };
+    }
+
+    private Specification<Ticket> fetchToOneRelationships() {
+        return (root, query, builder) -> {
+            // The count query of a page cannot fetch associations
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch(Ticket_.user, JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,360 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.TicketRepository;
+import com.mycompany.myapp.service.dto.TicketSearchHitDTO;
+import com.mycompany.myapp.service.event.TicketChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service for full-text search over ticket titles and descriptions, backed by an embedded Lucene index.
+ * <p>
+ * The index is kept up to date from {@link TicketChangedEvent}s once their transaction has committed.
+ * Changes are visible to searches right away through a near-real-time reader, and made durable by a periodic commit.
+ * <p>
+ * A rebuild takes the write side of {@code indexLock} to clear the index and then for each chunk, from reading it to
+ * indexing it, while the other writers take the read side: a change is never overwritten by the older copy of a
+ * ticket read before it was committed, and neither a commit nor a refresh can expose a partial rebuild.
+ */
+@Service
+public class TicketSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketSearchService.class);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+    private static final String CREATION_DATE = "creationDate";
+
+    private static final String[] SEARCH_FIELDS = { TITLE, DESCRIPTION };
+
+    private static final Map<String, Float> SEARCH_BOOSTS = Map.of(TITLE, 2f, DESCRIPTION, 1f);
+
+    private static final int[] MAX_PASSAGES = { 1, 2 };
+
+    /**
+     * Hits past this rank are not reachable by paging: deeper pages cost as much as all the previous ones.
+     */
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    // Offsets in the postings let the highlighter avoid re-analyzing the stored text
+    private static final FieldType HIGHLIGHTED_TEXT = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        HIGHLIGHTED_TEXT.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        HIGHLIGHTED_TEXT.freeze();
+    }
+
+    private final TicketRepository ticketRepository;
+
+    private final int reindexChunkSize;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private final Directory directory;
+
+    private final IndexWriter indexWriter;
+
+    private final SearcherManager searcherManager;
+
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+
+    public TicketSearchService(TicketRepository ticketRepository, ApplicationProperties applicationProperties) throws IOException {
+        this.ticketRepository = ticketRepository;
+        ApplicationProperties.Search search = applicationProperties.getSearch();
+        this.reindexChunkSize = search.getReindexChunkSize();
+        if (StringUtils.isBlank(search.getIndexDirectory())) {
+            LOG.debug("Keeping the ticket search index in memory");
+            this.directory = new ByteBuffersDirectory();
+        } else {
+            LOG.debug("Opening the ticket search index in {}", search.getIndexDirectory());
+            this.directory = FSDirectory.open(Path.of(search.getIndexDirectory()));
+        }
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * Search tickets by relevance.
+     *
+     * @param queryText the query, in Lucene classic query syntax; terms are required by default.
+     * @param pageable the pagination information, sorting is ignored.
+     * @return the page of hits, best first.
+     * @throws IllegalArgumentException if the query is not valid or the page is beyond the reachable hits.
+     */
+    public Page<TicketSearchHitDTO> search(String queryText, Pageable pageable) {
+        LOG.debug("Request to search Tickets for query : {}", queryText);
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Only the first " + MAX_RESULT_WINDOW + " hits can be paged through");
+        }
+        Query query = parse(queryText);
+        try {
+            refresh();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (int) pageable.getOffset() + pageable.getPageSize());
+                int total = searcher.count(query);
+                List<TicketSearchHitDTO> hits = new ArrayList<>(pageable.getPageSize());
+                int from = (int) Math.min(pageable.getOffset(), topDocs.scoreDocs.length);
+                int[] docIds = new int[topDocs.scoreDocs.length - from];
+                for (int i = 0; i < docIds.length; i++) {
+                    docIds[i] = topDocs.scoreDocs[from + i].doc;
+                }
+                Map<String, String[]> highlights = highlighter(searcher).highlightFields(SEARCH_FIELDS, query, docIds, MAX_PASSAGES);
+                StoredFields storedFields = searcher.storedFields();
+                for (int i = 0; i < docIds.length; i++) {
+                    TicketSearchHitDTO hit = toHit(storedFields.document(docIds[i]), topDocs.scoreDocs[from + i]);
+                    hit.setTitleHighlight(highlights.get(TITLE)[i]);
+                    hit.setDescriptionHighlight(highlights.get(DESCRIPTION)[i]);
+                    hits.add(hit);
+                }
+                return new PageImpl<>(hits, pageable, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IndexSearcher.TooManyClauses e) {
+            throw new IllegalArgumentException("Query matches too many terms: " + queryText, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the database, reading tickets in chunks of {@code application.search.reindex-chunk-size}.
+     * <p>
+     * Searches keep seeing the previous index until the rebuild is complete.
+     *
+     * @return the number of indexed tickets.
+     * @throws IllegalStateException if a rebuild is already running.
+     */
+    public long reindex() {
+        if (!reindexing.compareAndSet(false, true)) {
+            throw new IllegalStateException("The ticket search index is already being rebuilt");
+        }
+        LOG.info("Rebuilding the ticket search index");
+        Lock lock = indexLock.writeLock();
+        try {
+            lock.lock();
+            try {
+                indexWriter.deleteAll();
+            } finally {
+                lock.unlock();
+            }
+            long count = 0;
+            long lastId = Long.MIN_VALUE;
+            List<Ticket> chunk;
+            do {
+                lock.lock();
+                try {
+                    // Each chunk is read in its own short transaction, so the persistence context never grows
+                    chunk = ticketRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(reindexChunkSize));
+                    for (Ticket ticket : chunk) {
+                        // Not addDocument: a ticket changed concurrently may already be in the index
+                        indexWriter.updateDocument(idTerm(ticket.getId()), toDocument(ticket));
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                    count += chunk.size();
+                }
+            } while (chunk.size() == reindexChunkSize);
+            lock.lock();
+            try {
+                indexWriter.commit();
+                reindexing.set(false);
+            } finally {
+                lock.unlock();
+            }
+            LOG.info("Rebuilt the ticket search index with {} tickets", count);
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            reindexing.set(false);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTicketChanged(TicketChangedEvent event) {
+        Lock lock = indexLock.readLock();
+        lock.lock();
+        try {
+            if (event.getType() == TicketChangedEvent.Type.DELETED) {
+                indexWriter.deleteDocuments(idTerm(event.getTicketId()));
+            } else {
+                indexWriter.updateDocument(idTerm(event.getTicketId()), toDocument(event.getTicket()));
+            }
+        } catch (IOException | RuntimeException e) {
+            // The database is the source of truth, a reindex will catch up
+            LOG.warn("Could not update ticket {} in the search index: {}", event.getTicketId(), e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Build the index if it is empty, in the background so that the application does not wait for it to be ready.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexIfEmpty() {
+        if (indexWriter.getDocStats().numDocs > 0) {
+            return;
+        }
+        try {
+            reindex();
+        } catch (DataAccessException e) {
+            // Liquibase may still be running asynchronously
+            LOG.warn("Could not build the ticket search index, use the reindex operation once the database is ready: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.commit-interval-ms:10000}")
+    public void commit() throws IOException {
+        Lock lock = indexLock.readLock();
+        lock.lock();
+        try {
+            // A rebuild in progress must not become durable before it is complete
+            if (indexWriter.hasUncommittedChanges() && !reindexing.get()) {
+                indexWriter.commit();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private void refresh() throws IOException {
+        Lock lock = indexLock.readLock();
+        // Not waiting for a chunk being rebuilt: the previous index is served until the rebuild is complete anyway
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            // A rebuild in progress must not become visible before it is complete
+            if (!reindexing.get()) {
+                searcherManager.maybeRefreshBlocking();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Query parse(String queryText) {
+        if (StringUtils.isBlank(queryText)) {
+            throw new IllegalArgumentException("The query must not be blank");
+        }
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, SEARCH_BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(queryText);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid query: " + queryText, e);
+        }
+    }
+
+    private UnifiedHighlighter highlighter(IndexSearcher searcher) {
+        return UnifiedHighlighter.builder(searcher, analyzer).withFormatter(new DefaultPassageFormatter("<em>", "</em>", "... ", true)).build();
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, id.toString());
+    }
+
+    private static Document toDocument(Ticket ticket) {
+        Document document = new Document();
+        document.add(new StringField(ID, ticket.getId().toString(), Field.Store.YES));
+        if (ticket.getTitle() != null) {
+            document.add(new Field(TITLE, ticket.getTitle(), HIGHLIGHTED_TEXT));
+        }
+        if (ticket.getDescription() != null) {
+            document.add(new Field(DESCRIPTION, ticket.getDescription(), HIGHLIGHTED_TEXT));
+        }
+        if (ticket.getStatus() != null) {
+            document.add(new StoredField(STATUS, ticket.getStatus().name()));
+        }
+        if (ticket.getCreationDate() != null) {
+            document.add(new StoredField(CREATION_DATE, ticket.getCreationDate().toEpochMilli()));
+        }
+        return document;
+    }
+
+    private static TicketSearchHitDTO toHit(Document document, ScoreDoc scoreDoc) {
+        TicketSearchHitDTO hit = new TicketSearchHitDTO();
+        hit.setId(Long.valueOf(document.get(ID)));
+        hit.setTitle(document.get(TITLE));
+        hit.setScore(scoreDoc.score);
+        String status = document.get(STATUS);
+        if (status != null) {
+            hit.setStatus(TicketStatus.valueOf(status));
+        }
+        if (document.getField(CREATION_DATE) != null) {
+            hit.setCreationDate(Instant.ofEpochMilli(document.getField(CREATION_DATE).numericValue().longValue()));
+        }
+        return hit;
+    }
+}
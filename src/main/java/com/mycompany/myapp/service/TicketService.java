@@ -1,18 +1,30 @@
 package com.mycompany.myapp.service;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mycompany.myapp.domain.Ticket;
 import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.TicketDimensions;
 import com.mycompany.myapp.repository.TicketRepository;
+import com.mycompany.myapp.repository.TicketSummary;
+import com.mycompany.myapp.service.dto.TicketCursor;
+import com.mycompany.myapp.service.event.TicketChangedEvent;
 
 /**
  * Service Implementation for managing {@link com.mycompany.myapp.domain.Ticket}.
@@ -25,10 +37,16 @@ public class TicketService {
 
     private final TicketRepository ticketRepository;
     private final TicketValidationService ticketValidationService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TicketService(TicketRepository ticketRepository, TicketValidationService ticketValidationService) {
+    public TicketService(
+        TicketRepository ticketRepository,
+        TicketValidationService ticketValidationService,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.ticketRepository = ticketRepository;
         this.ticketValidationService = ticketValidationService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -43,6 +61,31 @@ public class TicketService {
         // Validate ticket according to business rules
         ticketValidationService.validateTicket(ticket);
 
+        applyDefaults(ticket);
+
+        Ticket result = ticketRepository.save(ticket);
+        eventPublisher.publishEvent(TicketChangedEvent.created(result));
+        return result;
+    }
+
+    /**
+     * Save several tickets in a single transaction, flushed as JDBC batches.
+     * <p>
+     * The tickets must already have been validated with {@link TicketValidationService}.
+     *
+     * @param tickets the entities to save.
+     * @return the persisted entities.
+     */
+    public List<Ticket> saveAll(List<Ticket> tickets) {
+        LOG.debug("Request to save {} Tickets", tickets.size());
+        tickets.forEach(this::applyDefaults);
+        List<Ticket> result = ticketRepository.saveAll(tickets);
+        ticketRepository.flush();
+        result.forEach(saved -> eventPublisher.publishEvent(TicketChangedEvent.created(saved)));
+        return result;
+    }
+
+    private void applyDefaults(Ticket ticket) {
         // Set default status to OPEN if not provided
         if (ticket.getStatus() == null) {
             ticket.setStatus(TicketStatus.OPEN);
@@ -52,49 +95,84 @@ public class TicketService {
         if (ticket.getCreationDate() == null) {
             ticket.setCreationDate(Instant.now());
         }
-
-        return ticketRepository.save(ticket);
     }
 
     /**
-     * Update a ticket.
+     * Update a ticket with a single conditional UPDATE statement.
+     * <p>
+     * The row of the ticket is locked first, reading only its status, category and priority, so that listeners are
+     * told exactly which dimensions the ticket left. The ticket is read back once updated, so that the response and
+     * the listeners get its stored state and new version rather than the submitted one.
      *
      * @param ticket the entity to save.
-     * @return the persisted entity.
+     * @param expectedVersion the version the caller last saw, or {@code null} to overwrite unconditionally.
+     * @return the persisted entity, or empty if there is no such ticket.
+     * @throws OptimisticLockingFailureException if the ticket exists but its version is not {@code expectedVersion}.
      */
-    public Ticket update(Ticket ticket) {
-        LOG.debug("Request to update Ticket : {}", ticket);
-        return ticketRepository.save(ticket);
+    public Optional<Ticket> update(Ticket ticket, Long expectedVersion) {
+        LOG.debug("Request to update Ticket : {}, version : {}", ticket, expectedVersion);
+        Optional<TicketDimensions> previous = ticketRepository.findDimensionsByIdForUpdate(ticket.getId());
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+        int updated = ticketRepository.updateIfVersionMatches(
+            ticket.getId(),
+            expectedVersion,
+            ticket.getTitle(),
+            ticket.getDescription(),
+            ticket.getCreationDate(),
+            ticket.getStatus(),
+            ticket.getCategory(),
+            ticket.getPriority(),
+            ticket.getUser()
+        );
+        if (updated == 0) {
+            throw notAtVersion(ticket.getId(), expectedVersion);
+        }
+        return readBackUpdated(ticket.getId(), previous.orElseThrow());
     }
 
     /**
-     * Partially update a ticket.
+     * Partially update a ticket with a single conditional UPDATE statement.
+     * <p>
+     * As for {@link #update(Ticket, Long)}, the row of the ticket is locked and its dimensions are read first, and the
+     * ticket is read back once updated.
      *
      * @param ticket the entity to update partially.
-     * @return the persisted entity.
+     * @param expectedVersion the version the caller last saw, or {@code null} to overwrite unconditionally.
+     * @return the persisted entity, or empty if there is no such ticket.
+     * @throws OptimisticLockingFailureException if the ticket exists but its version is not {@code expectedVersion}.
      */
-    public Optional<Ticket> partialUpdate(Ticket ticket) {
-        LOG.debug("Request to partially update Ticket : {}", ticket);
-
-        return ticketRepository
-            .findById(ticket.getId())
-            .map(existingTicket -> {
-                if (ticket.getTitle() != null) {
-                    existingTicket.setTitle(ticket.getTitle());
-                }
-                if (ticket.getDescription() != null) {
-                    existingTicket.setDescription(ticket.getDescription());
-                }
-                if (ticket.getCreationDate() != null) {
-                    existingTicket.setCreationDate(ticket.getCreationDate());
-                }
-                if (ticket.getStatus() != null) {
-                    existingTicket.setStatus(ticket.getStatus());
-                }
-
-                return existingTicket;
-            })
-            .map(ticketRepository::save);
+    public Optional<Ticket> partialUpdate(Ticket ticket, Long expectedVersion) {
+        LOG.debug("Request to partially update Ticket : {}, version : {}", ticket, expectedVersion);
+        Optional<TicketDimensions> previous = ticketRepository.findDimensionsByIdForUpdate(ticket.getId());
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+        int updated = ticketRepository.partialUpdateIfVersionMatches(
+            ticket.getId(),
+            expectedVersion,
+            ticket.getTitle(),
+            ticket.getDescription(),
+            ticket.getCreationDate(),
+            ticket.getStatus()
+        );
+        if (updated == 0) {
+            throw notAtVersion(ticket.getId(), expectedVersion);
+        }
+        return readBackUpdated(ticket.getId(), previous.orElseThrow());
+    }
+
+    private Optional<Ticket> readBackUpdated(Long id, TicketDimensions previous) {
+        // The update cleared the persistence context, so this reads the row as stored
+        Optional<Ticket> result = ticketRepository.findOneWithEagerRelationships(id).map(TicketService::withCachedRelationships);
+        result.ifPresent(updatedTicket -> eventPublisher.publishEvent(TicketChangedEvent.updated(updatedTicket, previous)));
+        return result;
+    }
+
+    private static OptimisticLockingFailureException notAtVersion(Long id, Long expectedVersion) {
+        // The row is locked, so an update that matched no row can only have been made for another version
+        return new OptimisticLockingFailureException("Ticket " + id + " is not at version " + expectedVersion);
     }
 
     /**
@@ -115,7 +193,71 @@ public class TicketService {
      * @return the list of entities.
      */
     public Page<Ticket> findAllWithEagerRelationships(Pageable pageable) {
-        return ticketRepository.findAllWithEagerRelationships(pageable);
+        return withCachedRelationships(ticketRepository.findAllWithEagerRelationships(pageable));
+    }
+
+    /**
+     * Get a page of ticket summaries, selecting only the columns needed by list views.
+     *
+     * @param pageable the pagination information.
+     * @return the list of summaries.
+     */
+    @Transactional(readOnly = true)
+    public Page<TicketSummary> findAllSummaries(Pageable pageable) {
+        LOG.debug("Request to get a page of Ticket summaries");
+        return ticketRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * Load the category and priority of tickets read without them. There are only a few of each, held in their
+     * second-level cache regions, so they are resolved from there instead of being joined to every ticket row.
+     */
+    static <T extends Iterable<Ticket>> T withCachedRelationships(T tickets) {
+        tickets.forEach(TicketService::withCachedRelationships);
+        return tickets;
+    }
+
+    static Ticket withCachedRelationships(Ticket ticket) {
+        Hibernate.initialize(ticket.getCategory());
+        Hibernate.initialize(ticket.getPriority());
+        return ticket;
+    }
+
+    static Slice<Ticket> toSlice(List<Ticket> tickets, int size) {
+        // One extra row was fetched to know whether a next slice exists
+        boolean hasNext = tickets.size() > size;
+        return new SliceImpl<>(hasNext ? tickets.subList(0, size) : tickets, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * Get a page of the tickets of a user.
+     *
+     * @param userId the id of the user.
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Ticket> findAllByUser(Long userId, Pageable pageable) {
+        LOG.debug("Request to get a page of Tickets of user : {}", userId);
+        return withCachedRelationships(ticketRepository.findAllByUserId(userId, pageable));
+    }
+
+    /**
+     * Get a slice of the tickets of a user, newest first, positioned by keyset instead of by offset.
+     *
+     * @param userId the id of the user.
+     * @param after the position to continue from, or {@code null} for the first slice.
+     * @param size the maximum number of tickets to return.
+     * @return the slice of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Ticket> findAllByUserAfter(Long userId, TicketCursor after, int size) {
+        LOG.debug("Request to get a slice of Tickets of user : {} after : {}", userId, after);
+        Limit limit = Limit.of(size + 1);
+        List<Ticket> tickets = after == null
+            ? ticketRepository.findFirstByUserIdByKeyset(userId, limit)
+            : ticketRepository.findNextByUserIdByKeyset(userId, after.getCreationDate(), after.getId(), limit);
+        return toSlice(withCachedRelationships(tickets), size);
     }
 
     /**
@@ -127,7 +269,19 @@ public class TicketService {
     @Transactional(readOnly = true)
     public Optional<Ticket> findOne(Long id) {
         LOG.debug("Request to get Ticket : {}", id);
-        return ticketRepository.findOneWithEagerRelationships(id);
+        return ticketRepository.findOneWithEagerRelationships(id).map(TicketService::withCachedRelationships);
+    }
+
+    /**
+     * Get the version of one ticket by id, without loading the ticket.
+     *
+     * @param id the id of the entity.
+     * @return the version of the entity, or empty if there is no such entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long id) {
+        LOG.debug("Request to get the version of Ticket : {}", id);
+        return ticketRepository.findVersionById(id);
     }
 
     /**
@@ -137,6 +291,11 @@ public class TicketService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Ticket : {}", id);
-        ticketRepository.deleteById(id);
+        ticketRepository
+            .findByIdForUpdate(id)
+            .ifPresent(ticket -> {
+                ticketRepository.delete(ticket);
+                eventPublisher.publishEvent(TicketChangedEvent.deleted(ticket));
+            });
     }
 }
@@ -0,0 +1,191 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.TicketDimensions;
+import com.mycompany.myapp.repository.TicketDimensionsCount;
+import com.mycompany.myapp.repository.TicketRepository;
+import com.mycompany.myapp.service.dto.TicketStatsDTO;
+import com.mycompany.myapp.service.event.TicketChangedEvent;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service keeping the number of tickets per status, category and priority in memory.
+ * <p>
+ * One {@link LongAdder} per combination is moved by every committed {@link TicketChangedEvent}, so that concurrent
+ * changes do not contend on a single counter. Reads serve an immutable snapshot that is only rebuilt after a change,
+ * whatever the number of tickets.
+ * <p>
+ * The counters are seeded from a single {@code GROUP BY} query once the application is ready, and periodically
+ * reconciled with the database to correct changes made outside of {@link TicketService}. Every change carries the exact
+ * dimensions the ticket had before it, read under the row lock of the update, so the counters never wait for a
+ * reconciliation to follow changes made by the application.
+ */
+@Service
+public class TicketStatsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketStatsService.class);
+
+    private final TicketRepository ticketRepository;
+
+    private final Map<TicketDimensions, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Shared by changes being applied, exclusive while a reconciliation corrects the counters.
+     */
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    /**
+     * Number of ticket changes whose transaction has not completed yet.
+     */
+    private final AtomicLong pendingChanges = new AtomicLong();
+
+    private final AtomicLong appliedChanges = new AtomicLong();
+
+    private volatile boolean stale = true;
+
+    private volatile TicketStatsDTO snapshot;
+
+    public TicketStatsService(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    /**
+     * Get the number of tickets per status, category and priority.
+     *
+     * @return the current statistics.
+     */
+    public TicketStatsDTO getStats() {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    // Cleared before reading the counters: a change applied meanwhile marks the snapshot stale again
+                    stale = false;
+                    snapshot = buildSnapshot();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private TicketStatsDTO buildSnapshot() {
+        Map<TicketStatus, Long> byStatus = new EnumMap<>(TicketStatus.class);
+        for (TicketStatus status : TicketStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        List<TicketStatsDTO.Bucket> buckets = new ArrayList<>(counters.size());
+        long total = 0;
+        for (Map.Entry<TicketDimensions, LongAdder> counter : counters.entrySet()) {
+            long count = counter.getValue().sum();
+            if (count == 0) {
+                continue;
+            }
+            TicketDimensions dimensions = counter.getKey();
+            buckets.add(new TicketStatsDTO.Bucket(dimensions.getStatus(), dimensions.getCategoryId(), dimensions.getPriorityId(), count));
+            if (dimensions.getStatus() != null) {
+                byStatus.merge(dimensions.getStatus(), count, Long::sum);
+            }
+            total += count;
+        }
+        return new TicketStatsDTO(total, byStatus, buckets);
+    }
+
+    @EventListener
+    public void onTicketChanging(TicketChangedEvent event) {
+        pendingChanges.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        reconcileLock.readLock().lock();
+        try {
+            if (event.getPrevious() != null) {
+                counter(event.getPrevious()).decrement();
+            }
+            if (event.getCurrent() != null) {
+                counter(event.getCurrent()).increment();
+            }
+            appliedChanges.incrementAndGet();
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+        stale = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTicketChangeCompleted(TicketChangedEvent event) {
+        pendingChanges.decrementAndGet();
+    }
+
+    private LongAdder counter(TicketDimensions dimensions) {
+        return counters.computeIfAbsent(dimensions, key -> new LongAdder());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Correct the counters from a {@code GROUP BY} over the ticket table.
+     * <p>
+     * The correction is skipped when a ticket change is in flight while the query runs, as the query may or may not
+     * see it: the next reconciliation will try again.
+     *
+     * @return whether the counters were reconciled.
+     */
+    @Scheduled(
+        fixedDelayString = "${application.stats.reconcile-interval-ms:300000}",
+        initialDelayString = "${application.stats.reconcile-interval-ms:300000}"
+    )
+    public boolean reconcile() {
+        if (pendingChanges.get() > 0) {
+            LOG.debug("Ticket changes are in flight, skipping the reconciliation of ticket statistics");
+            return false;
+        }
+        long applied = appliedChanges.get();
+        List<TicketDimensionsCount> counts = ticketRepository.countByDimensions();
+
+        reconcileLock.writeLock().lock();
+        try {
+            if (pendingChanges.get() > 0 || appliedChanges.get() != applied) {
+                LOG.debug("Tickets changed during the reconciliation of ticket statistics, skipping it");
+                return false;
+            }
+            Map<TicketDimensions, Long> actual = new HashMap<>();
+            counts.forEach(count -> actual.put(count.getDimensions(), count.getCount()));
+            Set<TicketDimensions> dimensions = new HashSet<>(counters.keySet());
+            dimensions.addAll(actual.keySet());
+            for (TicketDimensions dimension : dimensions) {
+                LongAdder counter = counter(dimension);
+                long drift = actual.getOrDefault(dimension, 0L) - counter.sum();
+                if (drift != 0) {
+                    LOG.debug("Correcting the number of tickets with {} by {}", dimension, drift);
+                    counter.add(drift);
+                }
+            }
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+        stale = true;
+        return true;
+    }
+}
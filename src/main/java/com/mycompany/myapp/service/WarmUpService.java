@@ -0,0 +1,237 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.Ticket_;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.TicketCategoryRepository;
+import com.mycompany.myapp.repository.TicketPriorityRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.criteria.TicketCriteria;
+import com.mycompany.myapp.service.dto.TicketCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service warming up the application before it accepts traffic, so that the first requests after a deploy do not pay
+ * for cold caches.
+ * <p>
+ * It loads the ticket categories and priorities into the second-level cache, the first pages of the ticket list and the
+ * newest tickets, and the principals and accounts of the users owning those tickets; along the way, the main JPQL
+ * queries are parsed into the Hibernate query plan cache. The warm-up runs when the application is ready: Spring Boot
+ * only reports the readiness state as accepting traffic once every listener of that event has returned.
+ * <p>
+ * Every step is best effort: a failing step is logged and skipped, and the remaining steps are skipped once the
+ * warm-up has taken too long.
+ */
+@Service
+public class WarmUpService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmUpService.class);
+
+    public static final String DURATION_METER_NAME = "warm-up";
+    public static final String STEP_DURATION_METER_NAME = "warm-up.step";
+    public static final String ENTRIES_METER_NAME = "warm-up.entries";
+    public static final String STEP_DIMENSION = "step";
+
+    public static final String REFERENCE_DATA_STEP = "reference-data";
+    public static final String TICKET_PAGES_STEP = "ticket-pages";
+    public static final String PRINCIPALS_STEP = "principals";
+    public static final String QUERIES_STEP = "queries";
+
+    private final TicketCategoryRepository ticketCategoryRepository;
+
+    private final TicketPriorityRepository ticketPriorityRepository;
+
+    private final TicketService ticketService;
+
+    private final TicketQueryService ticketQueryService;
+
+    private final UserRepository userRepository;
+
+    private final UserDetailsService userDetailsService;
+
+    private final ApplicationProperties.WarmUp properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MeterRegistry registry;
+
+    private final Timer durationTimer;
+
+    public WarmUpService(
+        TicketCategoryRepository ticketCategoryRepository,
+        TicketPriorityRepository ticketPriorityRepository,
+        TicketService ticketService,
+        TicketQueryService ticketQueryService,
+        UserRepository userRepository,
+        UserDetailsService userDetailsService,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry registry
+    ) {
+        this.ticketCategoryRepository = ticketCategoryRepository;
+        this.ticketPriorityRepository = ticketPriorityRepository;
+        this.ticketService = ticketService;
+        this.ticketQueryService = ticketQueryService;
+        this.userRepository = userRepository;
+        this.userDetailsService = userDetailsService;
+        this.properties = applicationProperties.getWarmUp();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.registry = registry;
+        this.durationTimer = Timer.builder(DURATION_METER_NAME)
+            .description("The time spent warming up the application before accepting traffic")
+            .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Run the warm-up steps.
+     *
+     * @return the number of entries loaded by each step that ran, by step name.
+     */
+    public Map<String, Long> warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(properties.getMaxDurationMs());
+        Map<String, Long> entries = new LinkedHashMap<>();
+        runStep(REFERENCE_DATA_STEP, deadline, entries, this::warmUpReferenceData);
+        List<Ticket> newestTickets = new ArrayList<>();
+        runStep(TICKET_PAGES_STEP, deadline, entries, () -> warmUpTicketPages(newestTickets));
+        runStep(PRINCIPALS_STEP, deadline, entries, () -> warmUpPrincipals(newestTickets));
+        runStep(QUERIES_STEP, deadline, entries, () -> warmUpQueries(newestTickets));
+        long duration = System.nanoTime() - start;
+        durationTimer.record(duration, TimeUnit.NANOSECONDS);
+        LOG.info("Warmed up in {} ms: {}", TimeUnit.NANOSECONDS.toMillis(duration), entries);
+        return entries;
+    }
+
+    private void runStep(String step, long deadline, Map<String, Long> entries, Supplier<Long> warmUp) {
+        if (System.nanoTime() - deadline > 0) {
+            LOG.warn("Warm-up took longer than {} ms, skipping the {} step", properties.getMaxDurationMs(), step);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            long loaded = warmUp.get();
+            entries.put(step, loaded);
+            Counter.builder(ENTRIES_METER_NAME)
+                .description("The number of entries loaded by a warm-up step")
+                .tag(STEP_DIMENSION, step)
+                .register(registry)
+                .increment(loaded);
+        } catch (RuntimeException e) {
+            // Liquibase may still be running asynchronously, the caches will be filled on first use
+            LOG.warn("Could not run the {} warm-up step: {}", step, e.getMessage());
+        } finally {
+            Timer.builder(STEP_DURATION_METER_NAME)
+                .description("The time spent in a warm-up step")
+                .tag(STEP_DIMENSION, step)
+                .register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long warmUpReferenceData() {
+        return transactionTemplate.execute(
+            status -> (long) ticketCategoryRepository.findAll().size() + ticketPriorityRepository.findAll().size()
+        );
+    }
+
+    private long warmUpTicketPages(List<Ticket> newestTickets) {
+        long loaded = 0;
+        // The ticket list of the client application, sorted by id
+        for (int page = 0; page < properties.getTicketPages(); page++) {
+            PageRequest pageRequest = PageRequest.of(page, properties.getPageSize(), Sort.by(Ticket_.ID));
+            int size = ticketQueryService.findByCriteria(new TicketCriteria(), pageRequest, true).getNumberOfElements();
+            loaded += size;
+            if (size < properties.getPageSize()) {
+                break;
+            }
+        }
+        // The newest tickets, as followed by keyset
+        TicketCursor after = null;
+        for (int page = 0; page < properties.getTicketPages(); page++) {
+            Slice<Ticket> slice = ticketQueryService.findByCriteriaAfter(new TicketCriteria(), after, properties.getPageSize());
+            newestTickets.addAll(slice.getContent());
+            loaded += slice.getNumberOfElements();
+            if (!slice.hasNext()) {
+                break;
+            }
+            after = TicketCursor.after(slice.getContent().get(slice.getNumberOfElements() - 1));
+        }
+        loaded += ticketService.findAllSummaries(PageRequest.of(0, properties.getPageSize())).getNumberOfElements();
+        return loaded;
+    }
+
+    private long warmUpPrincipals(List<Ticket> newestTickets) {
+        List<String> logins = newestTickets
+            .stream()
+            .map(Ticket::getUser)
+            .filter(Objects::nonNull)
+            .map(User::getLogin)
+            .distinct()
+            .limit(properties.getMaxUsers())
+            .toList();
+        long loaded = 0;
+        for (String login : logins) {
+            try {
+                userDetailsService.loadUserByUsername(login);
+                loaded++;
+            } catch (AuthenticationException e) {
+                // Deactivated users cannot log in, there is nothing to warm up for them
+                continue;
+            }
+            if (userRepository.findOneWithAuthoritiesByLogin(login).isPresent()) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private long warmUpQueries(List<Ticket> newestTickets) {
+        if (newestTickets.isEmpty()) {
+            return 0;
+        }
+        Ticket ticket = newestTickets.get(0);
+        ticketQueryService.countByCriteria(new TicketCriteria());
+        long loaded = ticketService.findOne(ticket.getId()).isPresent() ? 1 : 0;
+        if (ticket.getUser() != null) {
+            Long userId = ticket.getUser().getId();
+            loaded += ticketService.findAllByUser(userId, PageRequest.of(0, properties.getPageSize())).getNumberOfElements();
+            Slice<Ticket> slice = ticketService.findAllByUserAfter(userId, null, properties.getPageSize());
+            loaded += slice.getNumberOfElements();
+            if (slice.hasNext()) {
+                TicketCursor after = TicketCursor.after(slice.getContent().get(slice.getNumberOfElements() - 1));
+                loaded += ticketService.findAllByUserAfter(userId, after, properties.getPageSize()).getNumberOfElements();
+            }
+        }
+        return loaded;
+    }
+}
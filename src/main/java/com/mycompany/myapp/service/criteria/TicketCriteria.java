@@ -0,0 +1,293 @@
+package com.mycompany.myapp.service.criteria;
+
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Ticket} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.TicketResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /tickets?status.in=OPEN,IN_PROGRESS&categoryId.equals=1&creationDate.greaterThanOrEqual=2024-01-01T00:00:00Z}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class TicketCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering TicketStatus
+     */
+    public static class TicketStatusFilter extends Filter<TicketStatus> {
+
+        public TicketStatusFilter() {}
+
+        public TicketStatusFilter(TicketStatusFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public TicketStatusFilter copy() {
+            return new TicketStatusFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter title;
+
+    private InstantFilter creationDate;
+
+    private TicketStatusFilter status;
+
+    private LongFilter categoryId;
+
+    private LongFilter priorityId;
+
+    private LongFilter userId;
+
+    private StringFilter userLogin;
+
+    private Boolean distinct;
+
+    public TicketCriteria() {}
+
+    public TicketCriteria(TicketCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.title = other.optionalTitle().map(StringFilter::copy).orElse(null);
+        this.creationDate = other.optionalCreationDate().map(InstantFilter::copy).orElse(null);
+        this.status = other.optionalStatus().map(TicketStatusFilter::copy).orElse(null);
+        this.categoryId = other.optionalCategoryId().map(LongFilter::copy).orElse(null);
+        this.priorityId = other.optionalPriorityId().map(LongFilter::copy).orElse(null);
+        this.userId = other.optionalUserId().map(LongFilter::copy).orElse(null);
+        this.userLogin = other.optionalUserLogin().map(StringFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public TicketCriteria copy() {
+        return new TicketCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getTitle() {
+        return title;
+    }
+
+    public Optional<StringFilter> optionalTitle() {
+        return Optional.ofNullable(title);
+    }
+
+    public StringFilter title() {
+        if (title == null) {
+            setTitle(new StringFilter());
+        }
+        return title;
+    }
+
+    public void setTitle(StringFilter title) {
+        this.title = title;
+    }
+
+    public InstantFilter getCreationDate() {
+        return creationDate;
+    }
+
+    public Optional<InstantFilter> optionalCreationDate() {
+        return Optional.ofNullable(creationDate);
+    }
+
+    public InstantFilter creationDate() {
+        if (creationDate == null) {
+            setCreationDate(new InstantFilter());
+        }
+        return creationDate;
+    }
+
+    public void setCreationDate(InstantFilter creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public TicketStatusFilter getStatus() {
+        return status;
+    }
+
+    public Optional<TicketStatusFilter> optionalStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public TicketStatusFilter status() {
+        if (status == null) {
+            setStatus(new TicketStatusFilter());
+        }
+        return status;
+    }
+
+    public void setStatus(TicketStatusFilter status) {
+        this.status = status;
+    }
+
+    public LongFilter getCategoryId() {
+        return categoryId;
+    }
+
+    public Optional<LongFilter> optionalCategoryId() {
+        return Optional.ofNullable(categoryId);
+    }
+
+    public LongFilter categoryId() {
+        if (categoryId == null) {
+            setCategoryId(new LongFilter());
+        }
+        return categoryId;
+    }
+
+    public void setCategoryId(LongFilter categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public LongFilter getPriorityId() {
+        return priorityId;
+    }
+
+    public Optional<LongFilter> optionalPriorityId() {
+        return Optional.ofNullable(priorityId);
+    }
+
+    public LongFilter priorityId() {
+        if (priorityId == null) {
+            setPriorityId(new LongFilter());
+        }
+        return priorityId;
+    }
+
+    public void setPriorityId(LongFilter priorityId) {
+        this.priorityId = priorityId;
+    }
+
+    public LongFilter getUserId() {
+        return userId;
+    }
+
+    public Optional<LongFilter> optionalUserId() {
+        return Optional.ofNullable(userId);
+    }
+
+    public LongFilter userId() {
+        if (userId == null) {
+            setUserId(new LongFilter());
+        }
+        return userId;
+    }
+
+    public void setUserId(LongFilter userId) {
+        this.userId = userId;
+    }
+
+    public StringFilter getUserLogin() {
+        return userLogin;
+    }
+
+    public Optional<StringFilter> optionalUserLogin() {
+        return Optional.ofNullable(userLogin);
+    }
+
+    public StringFilter userLogin() {
+        if (userLogin == null) {
+            setUserLogin(new StringFilter());
+        }
+        return userLogin;
+    }
+
+    public void setUserLogin(StringFilter userLogin) {
+        this.userLogin = userLogin;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TicketCriteria that = (TicketCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(title, that.title) &&
+            Objects.equals(creationDate, that.creationDate) &&
+            Objects.equals(status, that.status) &&
+            Objects.equals(categoryId, that.categoryId) &&
+            Objects.equals(priorityId, that.priorityId) &&
+            Objects.equals(userId, that.userId) &&
+            Objects.equals(userLogin, that.userLogin) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title, creationDate, status, categoryId, priorityId, userId, userLogin, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalTitle().map(f -> "title=" + f + ", ").orElse("") +
+            optionalCreationDate().map(f -> "creationDate=" + f + ", ").orElse("") +
+            optionalStatus().map(f -> "status=" + f + ", ").orElse("") +
+            optionalCategoryId().map(f -> "categoryId=" + f + ", ").orElse("") +
+            optionalPriorityId().map(f -> "priorityId=" + f + ", ").orElse("") +
+            optionalUserId().map(f -> "userId=" + f + ", ").orElse("") +
+            optionalUserLogin().map(f -> "userLogin=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Criteria classes for filtering entities from request parameters.
+ */
+package com.mycompany.myapp.service.criteria;
@@ -0,0 +1,86 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO reporting the outcome of one item of a ticket batch, identified by its position in the submitted array.
+ */
+public class TicketBatchItemResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Status {
+        CREATED,
+        FAILED,
+    }
+
+    private int index;
+
+    private Status status;
+
+    private Long id;
+
+    private String error;
+
+    public TicketBatchItemResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    private TicketBatchItemResultDTO(int index, Status status, Long id, String error) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static TicketBatchItemResultDTO created(int index, Long id) {
+        return new TicketBatchItemResultDTO(index, Status.CREATED, id, null);
+    }
+
+    public static TicketBatchItemResultDTO failed(int index, String error) {
+        return new TicketBatchItemResultDTO(index, Status.FAILED, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketBatchItemResultDTO{" +
+            "index=" + index +
+            ", status='" + status + "'" +
+            ", id=" + id +
+            ", error='" + error + "'" +
+            "}";
+    }
+}
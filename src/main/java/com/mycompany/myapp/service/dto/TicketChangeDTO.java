@@ -0,0 +1,79 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.mycompany.myapp.domain.enumeration.TicketChangeType;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO for an entry of the ticket change feed.
+ */
+public class TicketChangeDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long seq;
+
+    private Long ticketId;
+
+    private TicketChangeType changeType;
+
+    private Instant occurredAt;
+
+    @JsonRawValue
+    private String ticket;
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public void setTicketId(Long ticketId) {
+        this.ticketId = ticketId;
+    }
+
+    public TicketChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(TicketChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * @return the ticket as JSON, as saved or as it was before being deleted.
+     */
+    public String getTicket() {
+        return ticket;
+    }
+
+    public void setTicket(String ticket) {
+        this.ticket = ticket;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketChangeDTO{" +
+            "seq=" + seq +
+            ", ticketId=" + ticketId +
+            ", changeType='" + changeType + "'" +
+            ", occurredAt='" + occurredAt + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,105 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.Ticket;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * An opaque keyset position over the {@code (creationDate, id)} ordering of tickets.
+ * <p>
+ * Clients only ever see the encoded form returned by {@link #encode()}, so the key layout can change
+ * without breaking them.
+ */
+public final class TicketCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final char SEPARATOR = '_';
+
+    private final Instant creationDate;
+
+    private final Long id;
+
+    public TicketCursor(Instant creationDate, Long id) {
+        this.creationDate = Objects.requireNonNull(creationDate, "creationDate");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Build the cursor positioned right after the given ticket.
+     *
+     * @param ticket the last ticket of a page.
+     * @return the cursor of the next page.
+     */
+    public static TicketCursor after(Ticket ticket) {
+        return new TicketCursor(ticket.getCreationDate(), ticket.getId());
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode()}.
+     *
+     * @param value the encoded cursor.
+     * @return the decoded cursor.
+     * @throws IllegalArgumentException if the value is not a valid cursor.
+     */
+    public static TicketCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+            return new TicketCursor(Instant.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+    }
+
+    /**
+     * Encode this cursor as an URL-safe opaque token.
+     *
+     * @return the encoded cursor.
+     */
+    public String encode() {
+        String raw = creationDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Instant getCreationDate() {
+        return creationDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TicketCursor)) {
+            return false;
+        }
+        TicketCursor that = (TicketCursor) o;
+        return creationDate.equals(that.creationDate) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(creationDate, id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketCursor{" +
+            "creationDate='" + creationDate + "'" +
+            ", id=" + id +
+            "}";
+    }
+}
@@ -0,0 +1,109 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.service.event.TicketChangedEvent;
+import java.io.Serializable;
+
+/**
+ * A DTO describing a committed ticket change, as sent to subscribers of the ticket event stream.
+ * <p>
+ * It only carries what a list view needs to decide whether to refresh; the ticket itself can be fetched by id.
+ */
+public class TicketEventDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private TicketChangedEvent.Type type;
+
+    private Long id;
+
+    private Long version;
+
+    private String title;
+
+    private TicketStatus status;
+
+    private Long categoryId;
+
+    private Long priorityId;
+
+    private Long userId;
+
+    public TicketChangedEvent.Type getType() {
+        return type;
+    }
+
+    public void setType(TicketChangedEvent.Type type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TicketStatus status) {
+        this.status = status;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Long getPriorityId() {
+        return priorityId;
+    }
+
+    public void setPriorityId(Long priorityId) {
+        this.priorityId = priorityId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketEventDTO{" +
+            "type='" + type + "'" +
+            ", id=" + id +
+            ", version=" + version +
+            ", status='" + status + "'" +
+            ", categoryId=" + categoryId +
+            ", priorityId=" + priorityId +
+            ", userId=" + userId +
+            "}";
+    }
+}
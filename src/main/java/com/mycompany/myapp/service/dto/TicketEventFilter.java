@@ -0,0 +1,94 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.TicketDimensions;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The tickets a subscriber of the ticket event stream wants to hear about.
+ * <p>
+ * Empty sets and a {@code null} user match any ticket. A change matches when the ticket matches either before or
+ * after it, so that subscribers also see tickets leaving their view.
+ */
+public final class TicketEventFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Set<TicketStatus> statuses;
+
+    private final Set<Long> categoryIds;
+
+    private final Long userId;
+
+    public TicketEventFilter(Collection<TicketStatus> statuses, Collection<Long> categoryIds, Long userId) {
+        this.statuses = statuses == null || statuses.isEmpty() ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(statuses));
+        this.categoryIds = categoryIds == null ? Set.of() : Set.copyOf(categoryIds);
+        this.userId = userId;
+    }
+
+    /**
+     * @param previous the status, category and priority before the change, or {@code null} for a created ticket.
+     * @param current the status, category and priority after the change, or {@code null} for a deleted ticket.
+     * @param ticketUserId the id of the user of the ticket.
+     * @return whether the change should be sent to the subscriber.
+     */
+    public boolean matches(TicketDimensions previous, TicketDimensions current, Long ticketUserId) {
+        return matchesUser(ticketUserId) && (matches(previous) || matches(current));
+    }
+
+    private boolean matchesUser(Long ticketUserId) {
+        return userId == null || userId.equals(ticketUserId);
+    }
+
+    private boolean matches(TicketDimensions dimensions) {
+        return (
+            dimensions != null &&
+            (statuses.isEmpty() || statuses.contains(dimensions.getStatus())) &&
+            (categoryIds.isEmpty() || categoryIds.contains(dimensions.getCategoryId()))
+        );
+    }
+
+    public Set<TicketStatus> getStatuses() {
+        return statuses;
+    }
+
+    public Set<Long> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TicketEventFilter)) {
+            return false;
+        }
+        TicketEventFilter that = (TicketEventFilter) o;
+        return statuses.equals(that.statuses) && categoryIds.equals(that.categoryIds) && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statuses, categoryIds, userId);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketEventFilter{" +
+            "statuses=" + statuses +
+            ", categoryIds=" + categoryIds +
+            ", userId=" + userId +
+            "}";
+    }
+}
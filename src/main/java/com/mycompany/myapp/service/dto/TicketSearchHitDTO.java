@@ -0,0 +1,97 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO for one ticket matching a full-text search, with the matching passages of its text.
+ * <p>
+ * Highlights are HTML-escaped, matched terms are wrapped in {@code <em>} tags.
+ */
+public class TicketSearchHitDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String title;
+
+    private TicketStatus status;
+
+    private Instant creationDate;
+
+    private float score;
+
+    private String titleHighlight;
+
+    private String descriptionHighlight;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TicketStatus status) {
+        this.status = status;
+    }
+
+    public Instant getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(Instant creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    public String getTitleHighlight() {
+        return titleHighlight;
+    }
+
+    public void setTitleHighlight(String titleHighlight) {
+        this.titleHighlight = titleHighlight;
+    }
+
+    public String getDescriptionHighlight() {
+        return descriptionHighlight;
+    }
+
+    public void setDescriptionHighlight(String descriptionHighlight) {
+        this.descriptionHighlight = descriptionHighlight;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketSearchHitDTO{" +
+            "id=" + getId() +
+            ", title='" + getTitle() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", creationDate='" + getCreationDate() + "'" +
+            ", score=" + getScore() +
+            "}";
+    }
+}
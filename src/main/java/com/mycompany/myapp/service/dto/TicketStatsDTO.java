@@ -0,0 +1,104 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A DTO with the number of tickets per status, category and priority.
+ * <p>
+ * Instances are immutable so that the same snapshot can be served to any number of readers.
+ */
+public final class TicketStatsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long total;
+
+    private final Map<TicketStatus, Long> byStatus;
+
+    private final List<Bucket> buckets;
+
+    public TicketStatsDTO(long total, Map<TicketStatus, Long> byStatus, List<Bucket> buckets) {
+        this.total = total;
+        this.byStatus = Collections.unmodifiableMap(byStatus);
+        this.buckets = Collections.unmodifiableList(buckets);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<TicketStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    /**
+     * @return the number of tickets of each non-empty combination of status, category and priority.
+     */
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketStatsDTO{" +
+            "total=" + total +
+            ", byStatus=" + byStatus +
+            ", buckets=" + buckets.size() +
+            "}";
+    }
+
+    /**
+     * The number of tickets with the same status, category and priority.
+     */
+    public static final class Bucket implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final TicketStatus status;
+
+        private final Long categoryId;
+
+        private final Long priorityId;
+
+        private final long count;
+
+        public Bucket(TicketStatus status, Long categoryId, Long priorityId, long count) {
+            this.status = status;
+            this.categoryId = categoryId;
+            this.priorityId = priorityId;
+            this.count = count;
+        }
+
+        public TicketStatus getStatus() {
+            return status;
+        }
+
+        public Long getCategoryId() {
+            return categoryId;
+        }
+
+        public Long getPriorityId() {
+            return priorityId;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "Bucket{" +
+                "status='" + status + "'" +
+                ", categoryId=" + categoryId +
+                ", priorityId=" + priorityId +
+                ", count=" + count +
+                "}";
+        }
+    }
+}
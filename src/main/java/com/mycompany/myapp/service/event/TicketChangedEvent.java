@@ -0,0 +1,88 @@
+package com.mycompany.myapp.service.event;
+
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.repository.TicketDimensions;
+import java.util.Objects;
+
+/**
+ * Published by {@link com.mycompany.myapp.service.TicketService} whenever a ticket is created, updated or deleted.
+ * <p>
+ * Listeners that mirror tickets outside of the database should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener} so that they only see committed changes.
+ */
+public final class TicketChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+    }
+
+    private final Type type;
+
+    private final Long ticketId;
+
+    private final Ticket ticket;
+
+    private final TicketDimensions previous;
+
+    private final TicketDimensions current;
+
+    private TicketChangedEvent(Type type, Long ticketId, Ticket ticket, TicketDimensions previous, TicketDimensions current) {
+        this.type = type;
+        this.ticketId = Objects.requireNonNull(ticketId, "ticketId");
+        this.ticket = ticket;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static TicketChangedEvent created(Ticket ticket) {
+        return new TicketChangedEvent(Type.CREATED, ticket.getId(), ticket, null, TicketDimensions.of(ticket));
+    }
+
+    public static TicketChangedEvent updated(Ticket ticket, TicketDimensions previous) {
+        return new TicketChangedEvent(Type.UPDATED, ticket.getId(), ticket, previous, TicketDimensions.of(ticket));
+    }
+
+    public static TicketChangedEvent deleted(Ticket ticket) {
+        return new TicketChangedEvent(Type.DELETED, ticket.getId(), ticket, TicketDimensions.of(ticket), null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    /**
+     * @return the ticket as saved, or as it was before being deleted.
+     */
+    public Ticket getTicket() {
+        return ticket;
+    }
+
+    /**
+     * @return the status, category and priority before the change, or {@code null} for a created ticket.
+     */
+    public TicketDimensions getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return the status, category and priority after the change, or {@code null} for a deleted ticket.
+     */
+    public TicketDimensions getCurrent() {
+        return current;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TicketChangedEvent{" +
+            "type='" + type + "'" +
+            ", ticketId=" + ticketId +
+            "}";
+    }
+}
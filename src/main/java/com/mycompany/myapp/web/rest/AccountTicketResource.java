@@ -0,0 +1,92 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.SecurityUtils;
+import com.mycompany.myapp.service.TicketService;
+import com.mycompany.myapp.service.dto.TicketCursor;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * REST controller for the tickets reported by the current user.
+ */
+@RestController
+@RequestMapping("/api/account")
+public class AccountTicketResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccountTicketResource.class);
+
+    private final TicketService ticketService;
+
+    private final UserRepository userRepository;
+
+    public AccountTicketResource(TicketService ticketService, UserRepository userRepository) {
+        this.ticketService = ticketService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * {@code GET  /account/tickets} : get a page of the tickets of the current user, newest first by default.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tickets in body.
+     */
+    @GetMapping("/tickets")
+    public ResponseEntity<List<Ticket>> getAccountTickets(
+        @org.springdoc.core.annotations.ParameterObject @SortDefault.SortDefaults(
+            { @SortDefault(sort = "creationDate", direction = Sort.Direction.DESC), @SortDefault(sort = "id", direction = Sort.Direction.DESC) }
+        ) Pageable pageable
+    ) {
+        LOG.debug("REST request to get a page of the current user's Tickets");
+        Page<Ticket> page = ticketService.findAllByUser(getCurrentUserId(), pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /account/tickets?after=:cursor} : get a slice of the tickets of the current user, newest first, using
+     * keyset pagination.
+     * <p>
+     * Pass an empty {@code after} to get the first slice, then follow the {@code next} link of the {@code Link} header.
+     *
+     * @param after the opaque cursor returned by the previous slice, or empty for the first slice.
+     * @param pageable the pagination information, only the page size is used.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tickets in body,
+     * or with status {@code 400 (Bad Request)} if the cursor is not valid.
+     */
+    @GetMapping(value = "/tickets", params = "after")
+    public ResponseEntity<List<Ticket>> getAccountTicketsAfter(
+        @RequestParam(name = "after") String after,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a slice of the current user's Tickets after : {}", after);
+        TicketCursor cursor = TicketCursorPagination.decode(after);
+        Slice<Ticket> slice = ticketService.findAllByUserAfter(getCurrentUserId(), cursor, pageable.getPageSize());
+        HttpHeaders headers = TicketCursorPagination.generateNextLinkHttpHeaders(slice);
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * The id is read from the JWT; only tokens issued before it was added as a claim cost a lookup by login.
+     */
+    private Long getCurrentUserId() {
+        return SecurityUtils.getCurrentUserId()
+            .or(() -> SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneByLogin).map(User::getId))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
+    }
+}
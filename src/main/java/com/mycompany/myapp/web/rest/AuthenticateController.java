@@ -6,9 +6,13 @@ import static com.mycompany.myapp.security.SecurityUtils.USER_ID_CLAIM;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.mycompany.myapp.security.DomainUserDetailsService.UserWithId;
+import com.mycompany.myapp.security.LoginAttemptLimiter;
+import com.mycompany.myapp.web.rest.errors.TooManyRequestsException;
 import com.mycompany.myapp.web.rest.vm.LoginVM;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.security.Principal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.stream.Collectors;
@@ -48,13 +52,36 @@ public class AuthenticateController {
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
-    public AuthenticateController(JwtEncoder jwtEncoder, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    private final LoginAttemptLimiter loginAttemptLimiter;
+
+    public AuthenticateController(
+        JwtEncoder jwtEncoder,
+        AuthenticationManagerBuilder authenticationManagerBuilder,
+        LoginAttemptLimiter loginAttemptLimiter
+    ) {
         this.jwtEncoder = jwtEncoder;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
+    /**
+     * {@code POST /authenticate} : authenticate a user.
+     * <p>
+     * Attempts are throttled per login and per client address before the password is checked. Behind a reverse
+     * proxy, {@code server.forward-headers-strategy} must be set for the client address to be the actual one.
+     *
+     * @param loginVM the credentials of the user.
+     * @param request the request, to get the client address from.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the JWT,
+     * or with status {@code 429 (Too Many Requests)} if too many attempts were made for the login or from the client,
+     * or with status {@code 503 (Service Unavailable)} if passwords cannot be checked right now.
+     */
     @PostMapping("/authenticate")
-    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM) {
+    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM, HttpServletRequest request) {
+        Duration retryAfter = loginAttemptLimiter.tryAcquire(loginVM.getUsername(), request.getRemoteAddr());
+        if (!retryAfter.isZero()) {
+            throw new TooManyRequestsException("Too many login attempts", retryAfter);
+        }
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             loginVM.getUsername(),
             loginVM.getPassword()
@@ -2,6 +2,7 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.TicketCategory;
 import com.mycompany.myapp.repository.TicketCategoryRepository;
+import com.mycompany.myapp.service.ReferenceDataGenerationService;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -13,9 +14,13 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -31,13 +36,27 @@ public class TicketCategoryResource {
 
     private static final String ENTITY_NAME = "ticketCategory";
 
+    // Lets browsers keep the list, as long as they check it is still current,
+    // in whichever format it was negotiated
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final TicketCategoryRepository ticketCategoryRepository;
 
-    public TicketCategoryResource(TicketCategoryRepository ticketCategoryRepository) {
+    private final ReferenceDataGenerationService referenceDataGenerationService;
+
+    private final VersionETags versionETags;
+
+    public TicketCategoryResource(
+        TicketCategoryRepository ticketCategoryRepository,
+        ReferenceDataGenerationService referenceDataGenerationService,
+        VersionETags versionETags
+    ) {
         this.ticketCategoryRepository = ticketCategoryRepository;
+        this.referenceDataGenerationService = referenceDataGenerationService;
+        this.versionETags = versionETags;
     }
 
     /**
@@ -55,6 +74,7 @@ public class TicketCategoryResource {
             throw new BadRequestAlertException("A new ticketCategory cannot already have an ID", ENTITY_NAME, "idexists");
         }
         ticketCategory = ticketCategoryRepository.save(ticketCategory);
+        referenceDataGenerationService.categoriesChanged();
         return ResponseEntity.created(new URI("/api/ticket-categories/" + ticketCategory.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, ticketCategory.getId().toString()))
             .body(ticketCategory);
@@ -88,6 +108,7 @@ public class TicketCategoryResource {
         }
 
         ticketCategory = ticketCategoryRepository.save(ticketCategory);
+        referenceDataGenerationService.categoriesChanged();
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, ticketCategory.getId().toString()))
             .body(ticketCategory);
@@ -131,6 +152,7 @@ public class TicketCategoryResource {
                 return existingTicketCategory;
             })
             .map(ticketCategoryRepository::save);
+        result.ifPresent(saved -> referenceDataGenerationService.categoriesChanged());
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -140,13 +162,23 @@ public class TicketCategoryResource {
 
     /**
      * {@code GET  /ticket-categories} : get all the ticketCategories.
+     * <p>
+     * The ticketCategories are versioned by their generation: a client already holding the current one gets a
+     * {@code 304 (Not Modified)} without them being read. Otherwise they are read from the database once the
+     * generation is known, never from the caches of this node, so that the entity tag is never newer than the list.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of ticketCategories in body.
+     * @param request the current request, holding its conditional headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of ticketCategories in body,
+     * or with status {@code 304 (Not Modified)} if they did not change since the client last got them.
      */
     @GetMapping("")
-    public List<TicketCategory> getAllTicketCategories() {
+    public ResponseEntity<List<TicketCategory>> getAllTicketCategories(NativeWebRequest request) {
         LOG.debug("REST request to get all TicketCategories");
-        return ticketCategoryRepository.findAll();
+        ReferenceDataGenerationService.Generation generation = referenceDataGenerationService.getCategories();
+        if (request.checkNotModified(versionETags.of(generation.value(), request), generation.lastModified().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).body(ticketCategoryRepository.findAllFromDatabase());
     }
 
     /**
@@ -172,6 +204,7 @@ public class TicketCategoryResource {
     public ResponseEntity<Void> deleteTicketCategory(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete TicketCategory : {}", id);
         ticketCategoryRepository.deleteById(id);
+        referenceDataGenerationService.categoriesChanged();
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
@@ -0,0 +1,58 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.service.TicketOutboxService;
+import com.mycompany.myapp.service.dto.TicketChangeDTO;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller for the feed of ticket changes, for downstream systems syncing incrementally.
+ */
+@RestController
+@RequestMapping("/api/tickets")
+public class TicketChangeResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketChangeResource.class);
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final TicketOutboxService ticketOutboxService;
+
+    public TicketChangeResource(TicketOutboxService ticketOutboxService) {
+        this.ticketOutboxService = ticketOutboxService;
+    }
+
+    /**
+     * {@code GET  /tickets/changes?after=:seq&limit=:limit} : get the ticket changes after a sequence number, oldest first.
+     * <p>
+     * Consumers pass the {@code seq} of the last change they processed to get the next ones; an empty list means
+     * they are up to date.
+     *
+     * @param after the sequence number of the last change processed, {@code 0} to start from the oldest change kept.
+     * @param limit the maximum number of changes to return.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of changes in body,
+     * or with status {@code 410 (Gone)} if changes following {@code after} have been pruned.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<List<TicketChangeDTO>> getTicketChanges(
+        @RequestParam(name = "after", defaultValue = "0") @Min(0) long after,
+        @RequestParam(name = "limit", defaultValue = "100") @Min(1) @Max(MAX_LIMIT) int limit
+    ) {
+        LOG.debug("REST request to get Ticket changes after : {}", after);
+        try {
+            return ResponseEntity.ok().body(ticketOutboxService.findChangesAfter(after, limit));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.GONE, e.getMessage());
+        }
+    }
+}
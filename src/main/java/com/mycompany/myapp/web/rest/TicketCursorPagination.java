@@ -0,0 +1,54 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.service.dto.TicketCursor;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Keyset pagination helpers shared by the {@code ?after=:cursor} endpoints.
+ */
+final class TicketCursorPagination {
+
+    private static final String ENTITY_NAME = "ticket";
+
+    private TicketCursorPagination() {}
+
+    /**
+     * Decode the {@code after} request parameter.
+     *
+     * @param after the opaque cursor returned by the previous slice, or empty for the first slice.
+     * @return the cursor, or {@code null} for the first slice.
+     * @throws BadRequestAlertException if the cursor is not valid.
+     */
+    static TicketCursor decode(String after) {
+        try {
+            return after.isEmpty() ? null : TicketCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+        }
+    }
+
+    /**
+     * Generate the {@code Link} header pointing to the slice following the given one, keeping the other request parameters.
+     *
+     * @param slice the slice being returned.
+     * @return the headers, empty if the slice is the last one.
+     */
+    static HttpHeaders generateNextLinkHttpHeaders(Slice<Ticket> slice) {
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext()) {
+            List<Ticket> content = slice.getContent();
+            String next = TicketCursor.after(content.get(content.size() - 1)).encode();
+            String link = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", next)
+                .replaceQueryParam("page")
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + link + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
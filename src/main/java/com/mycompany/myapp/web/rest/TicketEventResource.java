@@ -0,0 +1,74 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.SecurityUtils;
+import com.mycompany.myapp.service.TicketEventService;
+import com.mycompany.myapp.service.dto.TicketEventFilter;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming ticket changes as Server-Sent Events.
+ */
+@RestController
+@RequestMapping("/api/tickets")
+public class TicketEventResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TicketEventResource.class);
+
+    private final TicketEventService ticketEventService;
+
+    private final UserRepository userRepository;
+
+    public TicketEventResource(TicketEventService ticketEventService, UserRepository userRepository) {
+        this.ticketEventService = ticketEventService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * {@code GET  /tickets/events} : subscribe to the changes of tickets, once committed.
+     * <p>
+     * Each event is named after the change type ({@code CREATED}, {@code UPDATED} or {@code DELETED}) and carries a
+     * {@link com.mycompany.myapp.service.dto.TicketEventDTO}. A {@code resync} event asks the client to reload its
+     * view, as events sent while it was disconnected are not replayed.
+     * <p>
+     * Like the rest of the API, the stream requires the JWT in the {@code Authorization} header. The browser
+     * {@code EventSource} cannot send headers, so browser clients have to read the stream with {@code fetch} instead.
+     * Tokens are deliberately not accepted as a query parameter, where they would end up in access logs.
+     *
+     * @param status the statuses of the tickets to hear about, all by default.
+     * @param categoryId the categories of the tickets to hear about, all by default.
+     * @param mine whether to only hear about the tickets of the current user.
+     * @param lastEventId the id of the last event received, sent by clients when reconnecting.
+     * @return the event stream.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTicketEvents(
+        @RequestParam(name = "status", required = false) List<TicketStatus> status,
+        @RequestParam(name = "categoryId", required = false) List<Long> categoryId,
+        @RequestParam(name = "mine", defaultValue = "false") boolean mine,
+        @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        LOG.debug("REST request to stream Ticket events");
+        TicketEventFilter filter = new TicketEventFilter(status, categoryId, mine ? getCurrentUserId() : null);
+        return ticketEventService.subscribe(filter, lastEventId);
+    }
+
+    private Long getCurrentUserId() {
+        return SecurityUtils.getCurrentUserId()
+            .or(() -> SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneByLogin).map(User::getId))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
+    }
+}
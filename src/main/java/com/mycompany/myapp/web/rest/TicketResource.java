@@ -1,28 +1,57 @@
 package com.mycompany.myapp.web.rest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mycompany.myapp.domain.Ticket;
-import com.mycompany.myapp.repository.TicketRepository;
+import com.mycompany.myapp.repository.TicketSummary;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.TicketBatchService;
+import com.mycompany.myapp.service.TicketExportService;
+import com.mycompany.myapp.service.TicketQueryService;
+import com.mycompany.myapp.service.TicketSearchService;
 import com.mycompany.myapp.service.TicketService;
+import com.mycompany.myapp.service.TicketStatsService;
+import com.mycompany.myapp.service.criteria.TicketCriteria;
+import com.mycompany.myapp.service.dto.TicketBatchItemResultDTO;
+import com.mycompany.myapp.service.dto.TicketCursor;
+import com.mycompany.myapp.service.dto.TicketSearchHitDTO;
+import com.mycompany.myapp.service.dto.TicketStatsDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.errors.PreconditionFailedException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.mycompany.myapp.domain.Ticket}.
@@ -35,16 +64,49 @@ public class TicketResource {
 
     private static final String ENTITY_NAME = "ticket";
 
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    // Lets browsers keep a ticket, as long as they check it is still current,
+    // in whichever format it was negotiated
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final TicketService ticketService;
 
-    private final TicketRepository ticketRepository;
+    private final TicketQueryService ticketQueryService;
+
+    private final TicketBatchService ticketBatchService;
+
+    private final TicketSearchService ticketSearchService;
+
+    private final TicketStatsService ticketStatsService;
+
+    private final TicketExportService ticketExportService;
 
-    public TicketResource(TicketService ticketService, TicketRepository ticketRepository) {
+    private final ObjectReader ticketReader;
+
+    private final VersionETags versionETags;
+
+    public TicketResource(
+        TicketService ticketService,
+        TicketQueryService ticketQueryService,
+        TicketBatchService ticketBatchService,
+        TicketSearchService ticketSearchService,
+        TicketStatsService ticketStatsService,
+        TicketExportService ticketExportService,
+        ObjectMapper objectMapper,
+        VersionETags versionETags
+    ) {
         this.ticketService = ticketService;
-        this.ticketRepository = ticketRepository;
+        this.ticketQueryService = ticketQueryService;
+        this.ticketBatchService = ticketBatchService;
+        this.ticketSearchService = ticketSearchService;
+        this.ticketStatsService = ticketStatsService;
+        this.ticketExportService = ticketExportService;
+        this.ticketReader = objectMapper.readerFor(Ticket.class);
+        this.versionETags = versionETags;
     }
 
     /**
@@ -66,20 +128,67 @@ public class TicketResource {
             .body(ticket);
     }
 
+    /**
+     * {@code POST  /tickets/batch} : Create tickets in bulk from a JSON array.
+     * <p>
+     * The array is read as a stream and saved in chunks, each in its own transaction: a failing ticket is reported
+     * without rolling back the others. Reading stops at the first malformed item.
+     *
+     * @param body the JSON array of tickets to create.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of every submitted ticket.
+     * @throws IOException if the request body cannot be read.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TicketBatchItemResultDTO>> createTickets(InputStream body) throws IOException {
+        LOG.debug("REST request to save a batch of Tickets");
+        int chunkSize = ticketBatchService.getChunkSize();
+        List<TicketBatchItemResultDTO> results = new ArrayList<>();
+        List<Ticket> chunk = new ArrayList<>(chunkSize);
+        TicketBatchItemResultDTO malformed = null;
+        int index = 0;
+        try (MappingIterator<Ticket> tickets = ticketReader.readValues(body)) {
+            while (tickets.hasNextValue()) {
+                chunk.add(tickets.nextValue());
+                index++;
+                if (chunk.size() == chunkSize) {
+                    results.addAll(ticketBatchService.saveChunk(chunk, index - chunk.size()));
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            LOG.debug("Malformed ticket at index {} : {}", index, e.getOriginalMessage());
+            malformed = TicketBatchItemResultDTO.failed(index, "Malformed ticket");
+        }
+        results.addAll(ticketBatchService.saveChunk(chunk, index - chunk.size()));
+        if (malformed != null) {
+            results.add(malformed);
+        }
+        return ResponseEntity.ok().body(results);
+    }
+
     /**
      * {@code PUT  /tickets/:id} : Updates an existing ticket.
+     * <p>
+     * The update only applies if the ticket is still at the version given by the {@code If-Match} header or, without
+     * that header, by the {@code version} of the body.
      *
      * @param id the id of the ticket to save.
+     * @param ifMatch the entity tag the client last saw, if any.
      * @param ticket the ticket to update.
+     * @param request the current request, whose {@code Accept} header selects the format of the new entity tag.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated ticket,
      * or with status {@code 400 (Bad Request)} if the ticket is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the body is stale,
+     * or with status {@code 412 (Precondition Failed)} if the {@code If-Match} header does not match,
      * or with status {@code 500 (Internal Server Error)} if the ticket couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/{id}")
     public ResponseEntity<Ticket> updateTicket(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody Ticket ticket
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Valid @RequestBody Ticket ticket,
+        NativeWebRequest request
     ) throws URISyntaxException {
         LOG.debug("REST request to update Ticket : {}, {}", id, ticket);
         if (ticket.getId() == null) {
@@ -89,31 +198,39 @@ public class TicketResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!ticketRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long expectedVersion = expectedVersion(ifMatch, ticket);
+        Optional<Ticket> result;
+        try {
+            result = ticketService.update(ticket, expectedVersion);
+        } catch (OptimisticLockingFailureException e) {
+            throw preconditionFailedIfMatched(ifMatch, e);
         }
-
-        ticket = ticketService.update(ticket);
-        return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, ticket.getId().toString()))
-            .body(ticket);
+        return updated(result, request);
     }
 
     /**
      * {@code PATCH  /tickets/:id} : Partial updates given fields of an existing ticket, field will ignore if it is null
+     * <p>
+     * The update only applies if the ticket is still at the version given by the {@code If-Match} header or, without
+     * that header, by the {@code version} of the body when present.
      *
      * @param id the id of the ticket to save.
+     * @param ifMatch the entity tag the client last saw, if any.
      * @param ticket the ticket to update.
+     * @param request the current request, whose {@code Accept} header selects the format of the new entity tag.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated ticket,
-     * or with status {@code 400 (Bad Request)} if the ticket is not valid,
-     * or with status {@code 404 (Not Found)} if the ticket is not found,
+     * or with status {@code 400 (Bad Request)} if the ticket is not valid or not found,
+     * or with status {@code 409 (Conflict)} if the version of the body is stale,
+     * or with status {@code 412 (Precondition Failed)} if the {@code If-Match} header does not match,
      * or with status {@code 500 (Internal Server Error)} if the ticket couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Ticket> partialUpdateTicket(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody Ticket ticket
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @NotNull @RequestBody Ticket ticket,
+        NativeWebRequest request
     ) throws URISyntaxException {
         LOG.debug("REST request to partial update Ticket partially : {}, {}", id, ticket);
         if (ticket.getId() == null) {
@@ -123,52 +240,280 @@ public class TicketResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!ticketRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long expectedVersion = expectedVersion(ifMatch, ticket);
+        Optional<Ticket> result;
+        try {
+            result = ticketService.partialUpdate(ticket, expectedVersion);
+        } catch (OptimisticLockingFailureException e) {
+            throw preconditionFailedIfMatched(ifMatch, e);
         }
+        return updated(result, request);
+    }
 
-        Optional<Ticket> result = ticketService.partialUpdate(ticket);
+    private ResponseEntity<Ticket> updated(Optional<Ticket> result, NativeWebRequest request) {
+        Ticket ticket = result.orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, ticket.getId().toString()))
+            .eTag(versionETags.of(ticket.getVersion(), request))
+            .body(ticket);
+    }
+
+    /**
+     * Resolve the version an update is conditional on: the strong entity tag of {@code If-Match} if given
+     * ({@code *} meaning any version), else the version of the submitted body.
+     */
+    private Long expectedVersion(String ifMatch, Ticket ticket) {
+        if (ifMatch == null) {
+            return ticket.getVersion();
+        }
+        String tag = ifMatch.trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        Long version = VersionETags.version(tag);
+        if (version == null) {
+            // Not an entity tag this resource ever produced
+            throw new PreconditionFailedException("Entity tag does not match");
+        }
+        return version;
+    }
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, ticket.getId().toString())
-        );
+    private RuntimeException preconditionFailedIfMatched(String ifMatch, OptimisticLockingFailureException e) {
+        return ifMatch != null ? new PreconditionFailedException("Entity tag does not match") : e;
     }
 
     /**
      * {@code GET  /tickets} : get all the tickets.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @param pageable the pagination information.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tickets in body.
      */
     @GetMapping("")
     public ResponseEntity<List<Ticket>> getAllTickets(
+        TicketCriteria criteria,
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
         @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
     ) {
-        LOG.debug("REST request to get a page of Tickets");
-        Page<Ticket> page;
-        if (eagerload) {
-            page = ticketService.findAllWithEagerRelationships(pageable);
-        } else {
-            page = ticketService.findAll(pageable);
+        LOG.debug("REST request to get Tickets by criteria: {}", criteria);
+        Page<Ticket> page = ticketQueryService.findByCriteria(criteria, pageable, eagerload);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /tickets/count} : count all the tickets.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countTickets(TicketCriteria criteria) {
+        LOG.debug("REST request to count Tickets by criteria: {}", criteria);
+        return ResponseEntity.ok().body(ticketQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /tickets/export?format=csv|ndjson} : export all the tickets matching the criteria, ordered by id.
+     * <p>
+     * The tickets are streamed as they are read from the database, and gzip-compressed on the fly when the client
+     * accepts it.
+     *
+     * @param criteria the criteria which the exported tickets should match.
+     * @param format the format of the export, {@code csv} or {@code ndjson}.
+     * @param acceptEncoding the content codings accepted by the client.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the tickets in body,
+     * or with status {@code 400 (Bad Request)} if the format is not supported.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+        TicketCriteria criteria,
+        @RequestParam(name = "format", defaultValue = "csv") String format,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        LOG.debug("REST request to export Tickets as {} by criteria: {}", format, criteria);
+        TicketExportService.Format exportFormat;
+        try {
+            exportFormat = TicketExportService.Format.fromValue(format);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Unsupported export format", ENTITY_NAME, "formatinvalid");
         }
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tickets." + exportFormat.getExtension() + "\"")
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return response.body(out -> ticketExportService.export(criteria, exportFormat, out));
+        }
+        return response
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .body(out -> {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                ticketExportService.export(criteria, exportFormat, gzipOut);
+                gzipOut.finish();
+            });
+    }
+
+    /**
+     * Whether gzip is an acceptable content coding, by name or through {@code *}, with a non-zero quality value.
+     * A coding named explicitly takes precedence over {@code *}, so {@code gzip;q=0, *} does not accept gzip.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if ("gzip".equals(name) || "x-gzip".equals(name)) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if ("*".equals(name)) {
+                any = quality;
+            }
+        }
+        return gzip != null ? gzip > 0 : any != null && any > 0;
+    }
+
+    /**
+     * {@code GET  /tickets/stats} : get the number of tickets per status, category and priority.
+     * <p>
+     * The statistics are served from in-memory counters, without querying the database.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the statistics in body.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TicketStatsDTO> getTicketStats() {
+        LOG.debug("REST request to get Ticket statistics");
+        return ResponseEntity.ok().body(ticketStatsService.getStats());
+    }
+
+    /**
+     * {@code GET  /tickets/summaries} : get a page of ticket summaries, without descriptions nor related entities.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of ticket summaries in body.
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<List<TicketSummary>> getAllTicketSummaries(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+        LOG.debug("REST request to get a page of Ticket summaries");
+        Page<TicketSummary> page = ticketService.findAllSummaries(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /tickets?after=:cursor} : get a slice of tickets, newest first, using keyset pagination.
+     * <p>
+     * Pass an empty {@code after} to get the first slice, then follow the {@code next} link of the {@code Link} header.
+     * No total count is computed in this mode, and the order is always newest first.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param after the opaque cursor returned by the previous slice, or empty for the first slice.
+     * @param pageable the pagination information, only the page size is used.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tickets in body,
+     * or with status {@code 400 (Bad Request)} if the cursor is not valid.
+     */
+    @GetMapping(value = "", params = "after")
+    public ResponseEntity<List<Ticket>> getAllTicketsAfter(
+        TicketCriteria criteria,
+        @RequestParam(name = "after") String after,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a slice of Tickets by criteria: {} after : {}", criteria, after);
+        TicketCursor cursor = TicketCursorPagination.decode(after);
+        Slice<Ticket> slice = ticketQueryService.findByCriteriaAfter(criteria, cursor, pageable.getPageSize());
+        HttpHeaders headers = TicketCursorPagination.generateNextLinkHttpHeaders(slice);
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /tickets/_search?q=:query} : search tickets by title and description, most relevant first.
+     *
+     * @param query the query, in Lucene classic query syntax; all terms are required unless {@code OR} is used.
+     * @param pageable the pagination information, sorting is ignored.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of hits in body,
+     * or with status {@code 400 (Bad Request)} if the query is not valid.
+     */
+    @GetMapping("/_search")
+    public ResponseEntity<List<TicketSearchHitDTO>> searchTickets(
+        @RequestParam("q") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Tickets for query : {}", query);
+        Page<TicketSearchHitDTO> page;
+        try {
+            page = ticketSearchService.search(query, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "queryinvalid");
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code POST  /tickets/_reindex} : rebuild the search index from the database.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the number of indexed tickets in body,
+     * or with status {@code 409 (Conflict)} if a rebuild is already running.
+     */
+    @PostMapping("/_reindex")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Long> reindexTickets() {
+        LOG.debug("REST request to rebuild the Ticket search index");
+        try {
+            return ResponseEntity.ok(ticketSearchService.reindex());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
     /**
      * {@code GET  /tickets/:id} : get the "id" ticket.
+     * <p>
+     * When the request has an {@code If-None-Match} header, only the version of the ticket is read first, and the
+     * ticket is only loaded if that version does not match.
      *
      * @param id the id of the ticket to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the ticket, or with status {@code 404 (Not Found)}.
+     * @param request the current request, holding its conditional headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the ticket and its version in the
+     * negotiated format as {@code ETag},
+     * or with status {@code 304 (Not Modified)} if the client already holds that version in that format,
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Ticket> getTicket(@PathVariable("id") Long id) {
+    public ResponseEntity<Ticket> getTicket(@PathVariable("id") Long id, NativeWebRequest request) {
         LOG.debug("REST request to get Ticket : {}", id);
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> version = ticketService.findVersion(id);
+            if (version.isPresent() && request.checkNotModified(versionETags.of(version.orElseThrow(), request))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).build();
+            }
+        }
         Optional<Ticket> ticket = ticketService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(ticket);
+        return ticket
+            .map(found ->
+                ResponseEntity.ok()
+                    .eTag(versionETags.of(found.getVersion(), request))
+                    .cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(found)
+            )
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     /**
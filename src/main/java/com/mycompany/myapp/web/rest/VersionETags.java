@@ -0,0 +1,93 @@
+package com.mycompany.myapp.web.rest;
+
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+/**
+ * Strong entity tags of the representations of a versioned resource.
+ * <p>
+ * The same version is written as JSON, Smile or CBOR depending on the {@code Accept} header, and strong entity tags
+ * must differ between representations that differ byte for byte. JSON keeps the bare version, as in {@code "3"}, and
+ * the binary formats get a suffix, as in {@code "3-smile"}, so that a cache holding one format is never told that it
+ * is current for another one.
+ */
+@Component
+public class VersionETags {
+
+    private static final List<MediaType> JSON = List.of(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    public VersionETags(ContentNegotiationManager contentNegotiationManager) {
+        this.contentNegotiationManager = contentNegotiationManager;
+    }
+
+    /**
+     * @param version the version of the resource.
+     * @param request the current request, whose {@code Accept} header selects the format.
+     * @return the entity tag of the representation of that version in the format negotiated for the request.
+     */
+    public String of(long version, NativeWebRequest request) {
+        String suffix = suffix(request);
+        return "\"" + version + (suffix == null ? "" : "-" + suffix) + "\"";
+    }
+
+    /**
+     * Parse a strong entity tag produced by {@link #of(long, NativeWebRequest)}, in any format.
+     *
+     * @param eTag the entity tag, with its quotes.
+     * @return the version, or {@code null} if the entity tag was not produced by this class.
+     */
+    public static Long version(String eTag) {
+        if (eTag.length() <= 2 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+            return null;
+        }
+        String value = eTag.substring(1, eTag.length() - 1);
+        int dash = value.indexOf('-');
+        if (dash >= 0) {
+            String suffix = value.substring(dash + 1);
+            if (!"smile".equals(suffix) && !"cbor".equals(suffix)) {
+                return null;
+            }
+            value = value.substring(0, dash);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Select the format the same way as the message converters, which try JSON before Smile and CBOR for each
+     * acceptable media type, most specific and preferred first.
+     */
+    private String suffix(NativeWebRequest request) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = contentNegotiationManager.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return null;
+        }
+        for (MediaType mediaType : acceptable) {
+            if (JSON.stream().anyMatch(mediaType::isCompatibleWith)) {
+                return null;
+            }
+            if (mediaType.isCompatibleWith(SMILE)) {
+                return "smile";
+            }
+            if (mediaType.isCompatibleWith(CBOR)) {
+                return "cbor";
+            }
+        }
+        return null;
+    }
+}
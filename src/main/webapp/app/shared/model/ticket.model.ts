@@ -13,6 +13,7 @@ export interface ITicket {
   category?: ITicketCategory | null;
   priority?: ITicketPriority | null;
   user?: IUser | null;
+  version?: number | null;
 }
 
 export const defaultValue: Readonly<ITicket> = {};
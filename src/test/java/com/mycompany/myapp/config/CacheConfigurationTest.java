@@ -0,0 +1,100 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import com.mycompany.myapp.domain.TicketCategory;
+import com.mycompany.myapp.security.DomainUserDetailsService;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import tech.jhipster.config.JHipsterProperties;
+
+class CacheConfigurationTest {
+
+    private static final String REGION = TicketCategory.class.getName();
+
+    private static final String CREDENTIAL_REGION = DomainUserDetailsService.PRINCIPALS_BY_LOGIN_CACHE;
+
+    @TempDir
+    private Path diskDirectory;
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    void setup() {
+        applicationProperties = new ApplicationProperties();
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setMaxEntries(10);
+        region.setMaxOffHeapBytes(1024L * 1024);
+        region.setMaxDiskBytes(4L * 1024 * 1024);
+        applicationProperties.getCache().getRegions().put(REGION, region);
+        applicationProperties.getCache().getRegions().put(CREDENTIAL_REGION, region);
+    }
+
+    @Test
+    void testDiskTierIsNotKeptAcrossRestarts() {
+        applicationProperties.getCache().setDiskDirectory(diskDirectory.toString());
+
+        applicationProperties.getCache().getRegions().remove(CREDENTIAL_REGION);
+
+        try (CacheManager cacheManager = createCacheManager()) {
+            Cache<Object, Object> cache = cacheManager.getCache(REGION);
+            // More entries than the heap and off-heap tiers hold, so that most of them are on disk
+            for (long id = 0; id < 1000; id++) {
+                cache.put(id, "Hardware".repeat(200));
+            }
+            assertThat(cache.get(0L)).isEqualTo("Hardware".repeat(200));
+        }
+
+        // Entries of a Hibernate region would be stale, or unreadable by another release, after a restart
+        try (CacheManager cacheManager = createCacheManager()) {
+            Cache<Object, Object> cache = cacheManager.getCache(REGION);
+            assertThat(cache.get(0L)).isNull();
+        }
+    }
+
+    @Test
+    void testCredentialRegionsCannotHaveDiskTier() {
+        applicationProperties.getCache().setDiskDirectory(diskDirectory.toString());
+
+        assertThatIllegalStateException().isThrownBy(this::createCacheManager).withMessageContaining(CREDENTIAL_REGION);
+    }
+
+    @Test
+    void testDiskTierRequiresDiskDirectory() {
+        applicationProperties.getCache().getRegions().remove(CREDENTIAL_REGION);
+        CacheConfiguration cacheConfiguration = new CacheConfiguration(new JHipsterProperties(), applicationProperties);
+        CachingProvider cachingProvider = Caching.getCachingProvider();
+
+        // A class loader of its own gives a cache manager of its own, without a disk directory
+        try (
+            CacheManager cacheManager = cachingProvider.getCacheManager(
+                cachingProvider.getDefaultURI(),
+                new URLClassLoader(new URL[0], getClass().getClassLoader())
+            )
+        ) {
+            assertThatIllegalStateException()
+                .isThrownBy(() -> cacheConfiguration.cacheManagerCustomizer().customize(cacheManager))
+                .withMessageContaining(REGION);
+        }
+    }
+
+    private CacheManager createCacheManager() {
+        CacheConfiguration cacheConfiguration = new CacheConfiguration(new JHipsterProperties(), applicationProperties);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+            Map.of("cacheManagerCustomizer", cacheConfiguration.cacheManagerCustomizer())
+        );
+        return cacheConfiguration.jCacheCacheManager(beanFactory.getBeanProvider(JCacheManagerCustomizer.class));
+    }
+}
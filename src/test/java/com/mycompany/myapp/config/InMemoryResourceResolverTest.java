@@ -0,0 +1,91 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+class InMemoryResourceResolverTest {
+
+    private static final List<Resource> LOCATIONS = List.of(new ClassPathResource("static/"));
+
+    private ResourceResolverChain chain;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        chain = mock(ResourceResolverChain.class);
+        request = new MockHttpServletRequest();
+    }
+
+    @Test
+    void shouldReadResolvedResourceIntoMemory() throws Exception {
+        Resource resource = new ClassPathResource("static/main.0123abcd.js");
+        when(chain.resolveResource(any(), eq("main.0123abcd.js"), anyList())).thenReturn(resource);
+
+        Resource resolved = new InMemoryResourceResolver(1024 * 1024).resolveResource(request, "main.0123abcd.js", LOCATIONS, chain);
+
+        assertThat(resolved).isInstanceOf(InMemoryResourceResolver.InMemoryResource.class);
+        assertThat(resolved.getContentAsByteArray()).isEqualTo(resource.getContentAsByteArray());
+        assertThat(resolved.getFilename()).isEqualTo("main.0123abcd.js");
+        assertThat(resolved.lastModified()).isEqualTo(resource.lastModified());
+        assertThat(((HttpResource) resolved).getResponseHeaders()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepResponseHeadersOfEncodedResource() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, "br");
+        Resource resource = new EncodedResource(new ClassPathResource("static/main.0123abcd.js.br"), headers);
+        when(chain.resolveResource(any(), eq("main.0123abcd.js"), anyList())).thenReturn(resource);
+
+        Resource resolved = new InMemoryResourceResolver(1024 * 1024).resolveResource(request, "main.0123abcd.js", LOCATIONS, chain);
+
+        assertThat(resolved).isInstanceOf(InMemoryResourceResolver.InMemoryResource.class);
+        assertThat(((HttpResource) resolved).getResponseHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+        assertThat(resolved.getContentAsByteArray()).isEqualTo(resource.getContentAsByteArray());
+    }
+
+    @Test
+    void shouldNotReadLargeResourceIntoMemory() {
+        Resource resource = new ClassPathResource("static/main.0123abcd.js");
+        when(chain.resolveResource(any(), eq("main.0123abcd.js"), anyList())).thenReturn(resource);
+
+        Resource resolved = new InMemoryResourceResolver(16).resolveResource(request, "main.0123abcd.js", LOCATIONS, chain);
+
+        assertThat(resolved).isSameAs(resource);
+    }
+
+    @Test
+    void shouldNotResolveMissingResource() {
+        assertThat(new InMemoryResourceResolver(1024).resolveResource(request, "missing.js", LOCATIONS, chain)).isNull();
+    }
+
+    private static final class EncodedResource extends ClassPathResource implements HttpResource {
+
+        private final HttpHeaders headers;
+
+        private EncodedResource(ClassPathResource resource, HttpHeaders headers) {
+            super(resource.getPath());
+            this.headers = headers;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            return headers;
+        }
+    }
+}
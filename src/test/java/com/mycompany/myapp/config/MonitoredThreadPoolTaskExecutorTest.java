@@ -0,0 +1,107 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Unit tests for the {@link MonitoredThreadPoolTaskExecutor} and {@link TaskExecutorHealthIndicator} classes.
+ */
+class MonitoredThreadPoolTaskExecutorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MonitoredThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRunRejectedTasksInCallerAndPublishMetrics() throws Exception {
+        executor = createExecutor(new ThreadPoolExecutor.CallerRunsPolicy());
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.execute(() -> {});
+        Thread caller = Thread.currentThread();
+        Thread[] ranIn = new Thread[1];
+        executor.execute(() -> ranIn[0] = Thread.currentThread());
+
+        assertThat(ranIn[0]).isSameAs(caller);
+        assertThat(registry.get("executor.rejected").tag("name", "test").counter().count()).isEqualTo(1);
+        assertThat(registry.get("executor.queued").tag("name", "test").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("executor.active").tag("name", "test").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        executor.getThreadPoolExecutor().shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+        assertThat(registry.get("executor.completed").tag("name", "test").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("executor").tag("name", "test").timer().count()).isEqualTo(3);
+        assertThat(registry.get("executor.idle").tag("name", "test").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFailRejectedTasksWithAbortPolicy() throws Exception {
+        executor = createExecutor(new ThreadPoolExecutor.AbortPolicy());
+        executor.execute(this::awaitRelease);
+        executor.execute(() -> {});
+
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(TaskRejectedException.class);
+        assertThat(registry.get("executor.rejected").tag("name", "test").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBeOutOfServiceWhileQueuedTasksWaitTooLong() throws Exception {
+        executor = createExecutor(new ThreadPoolExecutor.CallerRunsPolicy());
+        TaskExecutorHealthIndicator healthIndicator = new TaskExecutorHealthIndicator(executor, 50);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+
+        executor.execute(this::awaitRelease);
+        executor.execute(() -> {});
+        Thread.sleep(100);
+
+        assertThat(executor.getOldestQueuedTaskAgeMs()).isGreaterThanOrEqualTo(50);
+        assertThat(registry.get("executor.queue.age").tag("name", "test").timeGauge().value(TimeUnit.MILLISECONDS)).isGreaterThan(50);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        release.countDown();
+        executor.getThreadPoolExecutor().shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private MonitoredThreadPoolTaskExecutor createExecutor(RejectedExecutionHandler rejectionPolicy) {
+        MonitoredThreadPoolTaskExecutor monitored = new MonitoredThreadPoolTaskExecutor("test", rejectionPolicy, registry);
+        monitored.setCorePoolSize(1);
+        monitored.setMaxPoolSize(1);
+        monitored.setQueueCapacity(1);
+        monitored.initialize();
+        return monitored;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link PermitLimitedDataSource} class.
+ */
+class PermitLimitedDataSourceTest {
+
+    private DataSource targetDataSource;
+
+    private Connection targetConnection;
+
+    private PermitLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        targetConnection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource = new PermitLimitedDataSource(targetDataSource, 2, 10);
+    }
+
+    @Test
+    void shouldFailWhenAllPermitsAreTaken() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThat(dataSource.getAvailablePermits()).isZero();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    void shouldGiveBackOnePermitWhenConnectionIsClosed() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(targetConnection, times(2)).close();
+    }
+
+    @Test
+    void shouldDelegateToTargetConnection() throws SQLException {
+        when(targetConnection.getAutoCommit()).thenReturn(true);
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.getAutoCommit()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldGiveBackPermitWhenConnectionCannotBeBorrowed() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Pool is closed"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("Pool is closed");
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
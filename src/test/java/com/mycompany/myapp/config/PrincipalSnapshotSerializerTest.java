@@ -0,0 +1,51 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.security.PrincipalSnapshot;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.ehcache.spi.serialization.SerializerException;
+import org.junit.jupiter.api.Test;
+
+class PrincipalSnapshotSerializerTest {
+
+    private static final PrincipalSnapshot PRINCIPAL = new PrincipalSnapshot(
+        42L,
+        "user",
+        "$2a$10$VEjxo0jq2YG9Rbk2HmX9S.k1uZBGYUHdUcid3g/vfiEl7lwWgOH/K",
+        true,
+        List.of(AuthoritiesConstants.USER, AuthoritiesConstants.ADMIN)
+    );
+
+    private final PrincipalSnapshotSerializer serializer = new PrincipalSnapshotSerializer();
+
+    @Test
+    void testSerializedPrincipalIsReadBack() {
+        ByteBuffer binary = serializer.serialize(PRINCIPAL);
+
+        assertThat(serializer.read(binary)).isEqualTo(PRINCIPAL);
+    }
+
+    @Test
+    void testSerializedPrincipalIsCompact() {
+        assertThat(serializer.serialize(PRINCIPAL).remaining()).isLessThan(128);
+    }
+
+    @Test
+    void testEqualsComparesWithTheSerializedPrincipal() {
+        assertThat(serializer.equals(PRINCIPAL, serializer.serialize(PRINCIPAL))).isTrue();
+        PrincipalSnapshot deactivated = new PrincipalSnapshot(42L, "user", PRINCIPAL.password(), false, PRINCIPAL.authorities());
+        assertThat(serializer.equals(deactivated, serializer.serialize(PRINCIPAL))).isFalse();
+    }
+
+    @Test
+    void testUnknownFormatIsRejected() {
+        ByteBuffer binary = serializer.serialize(PRINCIPAL);
+        binary.put(0, (byte) 0);
+
+        assertThatExceptionOfType(SerializerException.class).isThrownBy(() -> serializer.read(binary));
+    }
+}
@@ -3,13 +3,32 @@ package com.mycompany.myapp.config;
 import static com.mycompany.myapp.config.StaticResourcesWebConfiguration.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import tech.jhipster.config.JHipsterDefaults;
@@ -42,6 +61,10 @@ class StaticResourcesWebConfigurerTest {
         for (String testingPath : RESOURCE_PATHS) {
             assertThat(resourceHandlerRegistry.hasMappingForPattern(testingPath)).isTrue();
         }
+        verify(staticResourcesWebConfiguration, times(1)).initializeHashedResourceHandler(any(ResourceHandlerRegistration.class));
+        for (String testingPath : HASHED_RESOURCE_PATHS) {
+            assertThat(resourceHandlerRegistry.hasMappingForPattern(testingPath)).isTrue();
+        }
     }
 
     @Test
@@ -73,4 +96,105 @@ class StaticResourcesWebConfigurerTest {
             .extracting(CacheControl::getHeaderValue)
             .isEqualTo(cacheExpected.getHeaderValue());
     }
+
+    @Test
+    void shouldCreateImmutableCacheControlForHashedResources() {
+        assertThat(staticResourcesWebConfiguration.getHashedCacheControl().getHeaderValue()).isEqualTo(
+            "max-age=31536000, public, immutable"
+        );
+    }
+
+    @Test
+    void shouldServeHashedResourcesPrecompressedAndImmutable() throws Exception {
+        MockMvc mockMvc = staticResourcesMockMvc();
+
+        mockMvc
+            .perform(get("/main.0123abcd.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+            .andExpect(content().bytes(new ClassPathResource("static/main.0123abcd.js.br").getContentAsByteArray()));
+        mockMvc
+            .perform(get("/main.0123abcd.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(content().bytes(new ClassPathResource("static/main.0123abcd.js.gz").getContentAsByteArray()));
+        mockMvc
+            .perform(get("/main.0123abcd.js"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(content().bytes(new ClassPathResource("static/main.0123abcd.js").getContentAsByteArray()));
+        mockMvc
+            .perform(get("/content/main.0123abcd.css").header(HttpHeaders.ACCEPT_ENCODING, "br"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    void shouldServeOtherResourcesWithConfiguredCacheControl() throws Exception {
+        CacheControl cacheExpected = CacheControl.maxAge(JHipsterDefaults.Http.Cache.timeToLiveInDays, TimeUnit.DAYS).cachePublic();
+        staticResourcesMockMvc()
+            .perform(get("/content/logo.svg").header(HttpHeaders.ACCEPT_ENCODING, "br"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, cacheExpected.getHeaderValue()));
+    }
+
+    @Test
+    void shouldNotCompressPrecompressedResourcesAgainOnUndertow() throws Exception {
+        // Undertow leaves alone the responses that already have a Content-Encoding
+        Compression compression = new Compression();
+        compression.setEnabled(true);
+        compression.setMimeTypes(new String[] { "application/javascript", "text/javascript", "text/css" });
+        compression.setMinResponseSize(DataSize.ofBytes(0));
+        UndertowServletWebServerFactory factory = new UndertowServletWebServerFactory(0);
+        factory.setCompression(compression);
+        AnnotationConfigWebApplicationContext context = staticResourcesContext();
+        WebServer webServer = factory.getWebServer(servletContext ->
+            servletContext.addServlet("dispatcher", new DispatcherServlet(context)).addMapping("/")
+        );
+        webServer.start();
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+            String url = "http://localhost:" + webServer.getPort();
+
+            HttpResponse<byte[]> precompressed = client.send(
+                HttpRequest.newBuilder(URI.create(url + "/main.0123abcd.js")).header(HttpHeaders.ACCEPT_ENCODING, "gzip").build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+            );
+            assertThat(precompressed.headers().allValues(HttpHeaders.CONTENT_ENCODING)).containsExactly("gzip");
+            assertThat(precompressed.body()).isEqualTo(new ClassPathResource("static/main.0123abcd.js.gz").getContentAsByteArray());
+
+            // Without a precompressed variant, Undertow still compresses
+            HttpResponse<byte[]> compressed = client.send(
+                HttpRequest.newBuilder(URI.create(url + "/content/main.0123abcd.css")).header(HttpHeaders.ACCEPT_ENCODING, "gzip").build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+            );
+            assertThat(compressed.headers().allValues(HttpHeaders.CONTENT_ENCODING)).containsExactly("gzip");
+        } finally {
+            webServer.stop();
+            context.close();
+        }
+    }
+
+    private MockMvc staticResourcesMockMvc() {
+        AnnotationConfigWebApplicationContext context = staticResourcesContext();
+        context.setServletContext(new MockServletContext());
+        context.refresh();
+        return MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    private AnnotationConfigWebApplicationContext staticResourcesContext() {
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.register(StaticResourcesMvcConfiguration.class);
+        context.addBeanFactoryPostProcessor(beanFactory ->
+            beanFactory.registerSingleton("staticResourcesWebConfiguration", new StaticResourcesWebConfiguration(props))
+        );
+        return context;
+    }
+
+    @EnableWebMvc
+    static class StaticResourcesMvcConfiguration {}
 }
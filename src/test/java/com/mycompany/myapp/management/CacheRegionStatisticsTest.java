@@ -0,0 +1,125 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URL;
+import java.net.URLClassLoader;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.core.internal.statistics.DefaultStatisticsService;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheRegionStatisticsTest {
+
+    private static final String REGION = "region";
+
+    private CacheManager cacheManager;
+
+    private Cache<Long, String> cache;
+
+    private CacheRegionStatistics cacheRegionStatistics;
+
+    @BeforeEach
+    void setup() {
+        CachingProvider cachingProvider = Caching.getCachingProvider();
+        // A class loader of its own gives a cache manager of its own
+        cacheManager = ((EhcacheCachingProvider) cachingProvider).getCacheManager(
+            cachingProvider.getDefaultURI(),
+            new DefaultConfiguration(
+                new URLClassLoader(new URL[0], getClass().getClassLoader()),
+                new ProvidedStatisticsServiceFactory.ProvidedStatisticsService(new DefaultStatisticsService())
+            )
+        );
+        cache = cacheManager.createCache(
+            REGION,
+            Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                    Long.class,
+                    String.class,
+                    ResourcePoolsBuilder.heap(2).offheap(1, MemoryUnit.MB)
+                )
+            )
+        );
+        cacheRegionStatistics = new CacheRegionStatistics(cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void testRegionStatisticsArePerTier() {
+        for (long key = 0; key < 5; key++) {
+            cache.put(key, "value" + key);
+        }
+        cache.get(0L);
+        cache.get(10L);
+
+        CacheRegionStatistics.Region region = cacheRegionStatistics.getRegion(REGION).orElseThrow();
+
+        assertThat(region.entries()).isEqualTo(5);
+        assertThat(region.hits()).isEqualTo(1);
+        assertThat(region.misses()).isEqualTo(1);
+        assertThat(region.puts()).isEqualTo(5);
+        assertThat(region.tiers()).containsOnlyKeys("OnHeap", "OffHeap");
+        assertThat(region.tiers().get("OnHeap").entries()).isLessThanOrEqualTo(2);
+        assertThat(region.tiers().get("OffHeap").entries()).isEqualTo(5);
+        assertThat(region.tiers().get("OffHeap").occupiedBytes()).isPositive();
+    }
+
+    @Test
+    void testUnknownRegionHasNoStatistics() {
+        assertThat(cacheRegionStatistics.getRegion("unknown")).isEmpty();
+        assertThat(cacheRegionStatistics.getRegions()).extracting(CacheRegionStatistics.Region::name).containsExactly(REGION);
+    }
+
+    @Test
+    void testCacheManagerWithoutProvidedStatisticsServiceHasNoStatistics() {
+        CachingProvider cachingProvider = Caching.getCachingProvider();
+        try (
+            CacheManager otherCacheManager = cachingProvider.getCacheManager(
+                cachingProvider.getDefaultURI(),
+                new URLClassLoader(new URL[0], getClass().getClassLoader())
+            )
+        ) {
+            otherCacheManager.createCache(
+                REGION,
+                Eh107Configuration.fromEhcacheCacheConfiguration(
+                    CacheConfigurationBuilder.newCacheConfigurationBuilder(Long.class, String.class, ResourcePoolsBuilder.heap(2))
+                )
+            );
+
+            assertThat(new CacheRegionStatistics(otherCacheManager).getRegion(REGION)).isEmpty();
+        }
+    }
+
+    @Test
+    void testRegionSizesAreBoundToGauges() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheRegionStatistics.bindTo(meterRegistry);
+
+        cache.put(1L, "value");
+
+        assertThat(meterRegistry.get(CacheRegionStatistics.CACHE_SIZE_METER_NAME).tag("cache", REGION).gauge().value()).isEqualTo(1);
+        assertThat(
+            meterRegistry.get(CacheRegionStatistics.CACHE_TIER_SIZE_METER_NAME).tag("cache", REGION).tag("tier", "OffHeap").gauge().value()
+        ).isEqualTo(1);
+        assertThat(
+            meterRegistry.get(CacheRegionStatistics.CACHE_TIER_BYTES_METER_NAME).tag("cache", REGION).tag("tier", "OffHeap").gauge().value()
+        ).isPositive();
+        assertThat(meterRegistry.find(CacheRegionStatistics.CACHE_TIER_BYTES_METER_NAME).tag("tier", "OnHeap").gauge()).isNull();
+    }
+}
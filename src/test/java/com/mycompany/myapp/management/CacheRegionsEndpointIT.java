@@ -0,0 +1,104 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.security.DomainUserDetailsService;
+import com.mycompany.myapp.security.PrincipalSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link CacheRegionsEndpoint} actuator endpoint.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class CacheRegionsEndpointIT {
+
+    private static final String ENDPOINT_URL = "/management/cacheregions";
+
+    private static final String REGION = DomainUserDetailsService.PRINCIPALS_BY_LOGIN_CACHE;
+
+    @Autowired
+    private MockMvc restCacheRegionsMockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache cache;
+
+    @BeforeEach
+    void initTest() {
+        cache = cacheManager.getCache(REGION);
+        cache.clear();
+    }
+
+    @Test
+    void getAllRegions() throws Exception {
+        restCacheRegionsMockMvc
+            .perform(get(ENDPOINT_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(hasItem(REGION)))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(com.mycompany.myapp.domain.Ticket.class.getName())));
+    }
+
+    @Test
+    void getRegionCountsEntriesPerTier() throws Exception {
+        cache.put("user", new PrincipalSnapshot(1L, "user", "password", true, List.of(AuthoritiesConstants.USER)));
+        cache.get("user");
+        cache.get("unknown");
+
+        restCacheRegionsMockMvc
+            .perform(get(ENDPOINT_URL + "/{name}", REGION))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value(REGION))
+            .andExpect(jsonPath("$.entries").value(1))
+            .andExpect(jsonPath("$.tiers.OnHeap.entries").value(1));
+    }
+
+    @Test
+    void getUnknownRegion() throws Exception {
+        restCacheRegionsMockMvc.perform(get(ENDPOINT_URL + "/{name}", "unknown")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void clearRegion() throws Exception {
+        cache.put("user", new PrincipalSnapshot(1L, "user", "password", true, List.of(AuthoritiesConstants.USER)));
+
+        restCacheRegionsMockMvc.perform(delete(ENDPOINT_URL + "/{name}", REGION)).andExpect(status().isNoContent());
+
+        assertThat(cache.get("user")).isNull();
+        restCacheRegionsMockMvc.perform(delete(ENDPOINT_URL + "/{name}", "unknown")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void regionsAreOnlyAvailableToAdmins() throws Exception {
+        restCacheRegionsMockMvc.perform(get(ENDPOINT_URL)).andExpect(status().isForbidden());
+        restCacheRegionsMockMvc.perform(delete(ENDPOINT_URL + "/{name}", REGION)).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void regionSizesArePublished() {
+        cache.put("user", new PrincipalSnapshot(1L, "user", "password", true, List.of(AuthoritiesConstants.USER)));
+
+        assertThat(meterRegistry.get(CacheRegionStatistics.CACHE_SIZE_METER_NAME).tag("cache", REGION).gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.puts").tag("cache", REGION).functionCounter().count()).isPositive();
+    }
+}
@@ -67,4 +67,19 @@ class SecurityMetersServiceTests {
 
         assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "malformed").counter().count()).isEqualTo(1);
     }
+
+    @Test
+    void testTokenCacheCountersAreBoundToCorrectCounters() {
+        assertThat(meterRegistry.get("security.authentication.token-cache").tag("result", "hit").counter().count()).isZero();
+
+        securityMetersService.trackTokenCacheHit();
+
+        assertThat(meterRegistry.get("security.authentication.token-cache").tag("result", "hit").counter().count()).isEqualTo(1);
+
+        assertThat(meterRegistry.get("security.authentication.token-cache").tag("result", "miss").counter().count()).isZero();
+
+        securityMetersService.trackTokenCacheMiss();
+
+        assertThat(meterRegistry.get("security.authentication.token-cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,42 @@
+package com.mycompany.myapp.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL statements Hibernate prepares on the current thread while a capture is running, so that tests can
+ * check the statements it actually generates.
+ * <p>
+ * Registered for tests with the {@code hibernate.session_factory.statement_inspector} property.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * Run an action and return the statements it made Hibernate prepare, in order.
+     *
+     * @param action the action to run.
+     * @return the SQL statements.
+     */
+    public static List<String> capture(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,177 @@
+package com.mycompany.myapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Ticket_;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.service.TicketQueryService;
+import com.mycompany.myapp.service.TicketService;
+import com.mycompany.myapp.service.criteria.TicketCriteria;
+import com.mycompany.myapp.service.dto.TicketCursor;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * Integration tests checking that the filters of {@link com.mycompany.myapp.service.TicketQueryService} are served by
+ * the composite indexes of the {@code ticket} table.
+ * <p>
+ * The statements are captured as Hibernate generates them for the services, then explained with the parameters
+ * inlined in the order they appear; plans are only checked on H2.
+ */
+@IntegrationTest
+class TicketIndexIT {
+
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final Instant TO = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final TicketCursor CURSOR = new TicketCursor(FROM, 10L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TicketQueryService ticketQueryService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @BeforeEach
+    void assumeH2() throws Exception {
+        String database = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        assumeTrue("H2".equals(database), "Query plans are only checked on H2");
+    }
+
+    @Test
+    void statusFilterUsesStatusIndex() {
+        TicketCriteria criteria = new TicketCriteria();
+        criteria.status().setIn(List.of(TicketStatus.OPEN, TicketStatus.IN_PROGRESS));
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            ticketQueryService.findByCriteria(criteria, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Order.desc(Ticket_.CREATION_DATE))), false)
+        );
+
+        assertThat(explain(statements, "OPEN", "IN_PROGRESS", 0, PAGE_SIZE)).containsIgnoringCase("ix_ticket__status_creation_date");
+    }
+
+    @Test
+    void categoryFilterWithDateRangeUsesCategoryIndex() {
+        TicketCriteria criteria = new TicketCriteria();
+        criteria.creationDate().setGreaterThanOrEqual(FROM);
+        criteria.creationDate().setLessThan(TO);
+        criteria.categoryId().setEquals(1L);
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            ticketQueryService.findByCriteria(criteria, PageRequest.of(0, PAGE_SIZE), false)
+        );
+
+        assertThat(explain(statements, FROM, TO, 1L, 0, PAGE_SIZE)).containsIgnoringCase("ix_ticket__category_id_creation_date");
+    }
+
+    @Test
+    void priorityFilterWithDateRangeUsesPriorityIndex() {
+        TicketCriteria criteria = new TicketCriteria();
+        criteria.creationDate().setGreaterThanOrEqual(FROM);
+        criteria.priorityId().setEquals(1L);
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            ticketQueryService.findByCriteria(criteria, PageRequest.of(0, PAGE_SIZE), false)
+        );
+
+        assertThat(explain(statements, FROM, 1L, 0, PAGE_SIZE)).containsIgnoringCase("ix_ticket__priority_id_creation_date");
+    }
+
+    @Test
+    void userLoginFilterUsesUserIndex() {
+        TicketCriteria criteria = new TicketCriteria();
+        criteria.creationDate().setGreaterThanOrEqual(FROM);
+        criteria.userLogin().setEquals("user");
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            ticketQueryService.findByCriteria(criteria, PageRequest.of(0, PAGE_SIZE), false)
+        );
+
+        assertThat(explain(statements, FROM, "user", 0, PAGE_SIZE)).containsIgnoringCase("ix_ticket__user_id_creation_date_desc");
+    }
+
+    @Test
+    void userKeysetUsesUserIndex() {
+        List<String> statements = CapturingStatementInspector.capture(() -> ticketService.findAllByUserAfter(1L, CURSOR, PAGE_SIZE));
+
+        assertThat(explain(statements, 1L, FROM, FROM, FROM, 10L, PAGE_SIZE + 1)).containsIgnoringCase(
+            "ix_ticket__user_id_creation_date_desc"
+        );
+    }
+
+    @Test
+    void statusKeysetUsesStatusIndex() {
+        TicketCriteria criteria = new TicketCriteria();
+        criteria.status().setIn(List.of(TicketStatus.OPEN, TicketStatus.IN_PROGRESS));
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            ticketQueryService.findByCriteriaAfter(criteria, CURSOR, PAGE_SIZE)
+        );
+
+        assertThat(explain(statements, "OPEN", "IN_PROGRESS", FROM, FROM, FROM, 10L, PAGE_SIZE + 1)).containsIgnoringCase(
+            "ix_ticket__status_creation_date"
+        );
+    }
+
+    @Test
+    void creationDateRangeUsesCreationDateIndex() {
+        TicketCriteria criteria = new TicketCriteria();
+        criteria.creationDate().setGreaterThanOrEqual(FROM);
+        criteria.creationDate().setLessThan(TO);
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            ticketQueryService.findByCriteria(criteria, PageRequest.of(0, PAGE_SIZE), false)
+        );
+
+        assertThat(explain(statements, FROM, TO, 0, PAGE_SIZE)).containsIgnoringCase("ix_ticket__creation_date_id");
+    }
+
+    @Test
+    void keysetUsesCreationDateIndex() {
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            ticketQueryService.findByCriteriaAfter(new TicketCriteria(), CURSOR, PAGE_SIZE)
+        );
+
+        assertThat(explain(statements, FROM, FROM, FROM, 10L, PAGE_SIZE + 1)).containsIgnoringCase("ix_ticket__creation_date_id");
+    }
+
+    /**
+     * Explain the first captured statement, which selects the tickets, with its parameters inlined.
+     */
+    private String explain(List<String> statements, Object... parameters) {
+        assertThat(statements).isNotEmpty();
+        Matcher placeholders = Pattern.compile("\\?").matcher(statements.get(0));
+        StringBuilder sql = new StringBuilder("EXPLAIN ");
+        int parameter = 0;
+        while (placeholders.find()) {
+            assertThat(parameter).as("parameters of %s", statements.get(0)).isLessThan(parameters.length);
+            placeholders.appendReplacement(sql, Matcher.quoteReplacement(literal(parameters[parameter++])));
+        }
+        placeholders.appendTail(sql);
+        assertThat(parameter).as("parameters of %s", statements.get(0)).isEqualTo(parameters.length);
+        return jdbcTemplate.queryForObject(sql.toString(), String.class);
+    }
+
+    private static String literal(Object value) {
+        if (value instanceof Instant instant) {
+            return "TIMESTAMP '" + Timestamp.from(instant) + "'";
+        }
+        if (value instanceof String string) {
+            return "'" + string.replace("'", "''") + "'";
+        }
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,111 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Unit tests for the {@link CachingJwtDecoder} class.
+ */
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Map<String, Integer> decodings = new HashMap<>();
+
+    private final Map<String, Instant> expirations = new HashMap<>();
+
+    private Instant now;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setup() {
+        now = NOW;
+        JwtDecoder delegate = token -> {
+            decodings.merge(token, 1, Integer::sum);
+            if (!expirations.containsKey(token)) {
+                throw new BadJwtException("Malformed token");
+            }
+            return Jwt.withTokenValue(token).header("alg", "HS512").subject("user").expiresAt(expirations.get(token)).build();
+        };
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, 10, new SecurityMetersService(new SimpleMeterRegistry()), clock);
+    }
+
+    @Test
+    void shouldDecodeTokenOnce() {
+        expirations.put("token", NOW.plusSeconds(60));
+
+        Jwt first = cachingJwtDecoder.decode("token");
+        Jwt second = cachingJwtDecoder.decode("token");
+
+        assertThat(second).isSameAs(first);
+        assertThat(decodings).containsEntry("token", 1);
+    }
+
+    @Test
+    void shouldDecodeTokenAgainOnceExpired() {
+        expirations.put("token", NOW.plusSeconds(60));
+        cachingJwtDecoder.decode("token");
+
+        now = NOW.plusSeconds(60);
+        cachingJwtDecoder.decode("token");
+
+        assertThat(decodings).containsEntry("token", 2);
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("invalid")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("invalid")).isInstanceOf(BadJwtException.class);
+
+        assertThat(decodings).containsEntry("invalid", 2);
+        assertThat(cachingJwtDecoder.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictTokensExpiringSoonestWhenFull() {
+        for (int i = 0; i < 10; i++) {
+            expirations.put("token" + i, NOW.plusSeconds(60 + i));
+            cachingJwtDecoder.decode("token" + i);
+        }
+        expirations.put("token10", NOW.plusSeconds(600));
+
+        cachingJwtDecoder.decode("token10");
+        cachingJwtDecoder.decode("token10");
+        cachingJwtDecoder.decode("token9");
+
+        assertThat(cachingJwtDecoder.size()).isEqualTo(10);
+        assertThat(decodings).containsEntry("token10", 1).containsEntry("token9", 1);
+        cachingJwtDecoder.decode("token0");
+        assertThat(decodings).containsEntry("token0", 2);
+    }
+}
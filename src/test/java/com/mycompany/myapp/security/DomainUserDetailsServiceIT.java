@@ -14,8 +14,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -31,6 +33,7 @@ class DomainUserDetailsServiceIT {
     private static final String USER_TWO_EMAIL = "test-user-two@localhost";
     private static final String USER_THREE_LOGIN = "test-user-three";
     private static final String USER_THREE_EMAIL = "test-user-three@localhost";
+    private static final String USER_THREE_ACTIVATION_KEY = "test-user-three-key";
 
     @Autowired
     private UserRepository userRepository;
@@ -38,6 +41,9 @@ class DomainUserDetailsServiceIT {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Autowired
     @Qualifier("userDetailsService")
     private UserDetailsService domainUserDetailsService;
@@ -71,6 +77,7 @@ class DomainUserDetailsServiceIT {
         userThree.setLogin(USER_THREE_LOGIN);
         userThree.setPassword(RandomStringUtils.insecure().nextAlphanumeric(60));
         userThree.setActivated(false);
+        userThree.setActivationKey(USER_THREE_ACTIVATION_KEY);
         userThree.setEmail(USER_THREE_EMAIL);
         userThree.setFirstName("userThree");
         userThree.setLastName("doe");
@@ -133,4 +140,42 @@ class DomainUserDetailsServiceIT {
             domainUserDetailsService.loadUserByUsername(USER_THREE_LOGIN)
         );
     }
+
+    @Test
+    void assertThatPrincipalIsServedFromCache() {
+        UserDetails userDetails = domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN);
+        PrincipalSnapshot principal = cacheManager
+            .getCache(DomainUserDetailsService.PRINCIPALS_BY_LOGIN_CACHE)
+            .get(USER_ONE_LOGIN, PrincipalSnapshot.class);
+        assertThat(principal).isNotNull();
+        assertThat(principal.password()).isEqualTo(userDetails.getPassword());
+
+        // Not seen through the cache, as the change does not go through UserService
+        User user = userRepository.findOneByLogin(USER_ONE_LOGIN).orElseThrow();
+        user.setPassword(RandomStringUtils.insecure().nextAlphanumeric(60));
+        userRepository.saveAndFlush(user);
+
+        assertThat(domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN).getPassword()).isEqualTo(principal.password());
+    }
+
+    @Test
+    void assertThatPrincipalIsEvictedWhenUserChanges() {
+        assertThatExceptionOfType(UserNotActivatedException.class).isThrownBy(() ->
+            domainUserDetailsService.loadUserByUsername(USER_THREE_EMAIL)
+        );
+        assertThat(cacheManager.getCache(DomainUserDetailsService.PRINCIPALS_BY_EMAIL_CACHE).get(USER_THREE_EMAIL)).isNotNull();
+
+        userService.activateRegistration(USER_THREE_ACTIVATION_KEY);
+
+        assertThat(cacheManager.getCache(DomainUserDetailsService.PRINCIPALS_BY_EMAIL_CACHE).get(USER_THREE_EMAIL)).isNull();
+        assertThat(domainUserDetailsService.loadUserByUsername(USER_THREE_EMAIL).getUsername()).isEqualTo(USER_THREE_LOGIN);
+    }
+
+    @Test
+    void assertThatUnknownUserIsNotCached() {
+        assertThatExceptionOfType(UsernameNotFoundException.class).isThrownBy(() ->
+            domainUserDetailsService.loadUserByUsername("unknown-user")
+        );
+        assertThat(cacheManager.getCache(DomainUserDetailsService.PRINCIPALS_BY_LOGIN_CACHE).get("unknown-user")).isNull();
+    }
 }
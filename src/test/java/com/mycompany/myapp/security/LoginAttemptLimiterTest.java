@@ -0,0 +1,116 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link LoginAttemptLimiter} class.
+ */
+class LoginAttemptLimiterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private Instant now;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @BeforeEach
+    void setup() {
+        now = NOW;
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        // 3 attempts then 1 every 10 seconds per login, 5 attempts then 1 every 6 seconds per client
+        loginAttemptLimiter = new LoginAttemptLimiter(3, 6, 5, 10, 2, new SecurityMetersService(meterRegistry), clock);
+    }
+
+    @Test
+    void allowsABurstPerLoginThenTheRefillRate() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(loginAttemptLimiter.tryAcquire("user", "10.0.0." + i)).isZero();
+        }
+
+        assertThat(loginAttemptLimiter.tryAcquire("USER", "10.0.0.9")).isEqualTo(Duration.ofSeconds(10));
+        assertThat(loginAttemptLimiter.tryAcquire("admin", "10.0.0.9")).isZero();
+
+        now = now.plusSeconds(10);
+        assertThat(loginAttemptLimiter.tryAcquire("user", "10.0.0.9")).isZero();
+        assertThat(loginAttemptLimiter.tryAcquire("user", "10.0.0.9")).isEqualTo(Duration.ofSeconds(10));
+        assertThat(rejections("login-throttled")).isEqualTo(2);
+    }
+
+    @Test
+    void allowsABurstPerClientThenTheRefillRate() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(loginAttemptLimiter.tryAcquire("user" + i, "10.0.0.1")).isZero();
+        }
+
+        assertThat(loginAttemptLimiter.tryAcquire("user9", "10.0.0.1")).isEqualTo(Duration.ofSeconds(6));
+        assertThat(loginAttemptLimiter.tryAcquire("user9", "10.0.0.2")).isZero();
+
+        now = now.plusSeconds(3);
+        assertThat(loginAttemptLimiter.tryAcquire("user9", "10.0.0.1")).isEqualTo(Duration.ofSeconds(3));
+        assertThat(rejections("client-throttled")).isEqualTo(2);
+    }
+
+    @Test
+    void forgetsRefilledKeysWhenTooManyAreTracked() {
+        for (int i = 0; i < 3; i++) {
+            loginAttemptLimiter.tryAcquire("user", "10.0.0.1");
+        }
+        loginAttemptLimiter.tryAcquire("admin", "10.0.0.2");
+
+        // Refills the bucket of admin, but not the one of user
+        now = now.plusSeconds(10);
+        loginAttemptLimiter.tryAcquire("other", "10.0.0.3");
+
+        assertThat(loginAttemptLimiter.tryAcquire("user", "10.0.0.3")).isZero();
+        assertThat(loginAttemptLimiter.tryAcquire("user", "10.0.0.3")).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void keepsThrottledKeysWhenTooManyAreTracked() {
+        for (int i = 0; i < 3; i++) {
+            loginAttemptLimiter.tryAcquire("user", "10.0.0.1");
+        }
+
+        // New logins from new addresses overflow both maps, but have more attempts left than user
+        for (int i = 0; i < 10; i++) {
+            assertThat(loginAttemptLimiter.tryAcquire("spray" + i, "10.0.1." + i)).isZero();
+        }
+
+        assertThat(loginAttemptLimiter.tryAcquire("user", "10.0.0.2")).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry
+            .get(SecurityMetersService.REJECTED_LOGINS_METER_NAME)
+            .tag(SecurityMetersService.REJECTED_LOGINS_METER_REASON_DIMENSION, reason)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,125 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Unit tests for the {@link OffloadingPasswordEncoder} class.
+ */
+class OffloadingPasswordEncoderTest {
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PasswordEncoder delegate;
+
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                if ("blocking".contentEquals(rawPassword)) {
+                    hashing.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.matches(rawPassword, encodedPassword);
+            }
+        };
+    }
+
+    private void createPasswordEncoder(long queueTimeoutMs) {
+        passwordEncoder = new OffloadingPasswordEncoder(delegate, 1, 1, queueTimeoutMs, new SecurityMetersService(meterRegistry));
+    }
+
+    @AfterEach
+    void teardown() {
+        release.countDown();
+        if (passwordEncoder != null) {
+            passwordEncoder.close();
+        }
+    }
+
+    @Test
+    void hashesOnTheHashingThreads() {
+        createPasswordEncoder(10000);
+        String encoded = passwordEncoder.encode("password");
+
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get(SecurityMetersService.PASSWORD_HASHING_METER_NAME).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void upgradesHashesOfALowerStrength() {
+        delegate = new BCryptPasswordEncoder(5);
+        createPasswordEncoder(10000);
+
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password"))).isFalse();
+    }
+
+    @Test
+    void rejectsPasswordsWaitingTooLongForAThread() throws Exception {
+        createPasswordEncoder(200);
+        String encoded = passwordEncoder.encode("blocking");
+        CompletableFuture<Boolean> blocking = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("blocking", encoded));
+        assertThat(hashing.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Queued behind the blocking hash, and not hashed once timed out
+        assertThatThrownBy(() -> passwordEncoder.matches("password", encoded)).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(passwordEncoder.getQueueSize()).isZero();
+
+        // The blocking hash outlives the timeout, but is still waited for
+        release.countDown();
+        assertThat(blocking.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(busyRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsPasswordsWhenTheQueueIsFull() throws Exception {
+        createPasswordEncoder(10000);
+        String encoded = passwordEncoder.encode("blocking");
+        CompletableFuture<Boolean> blocking = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("blocking", encoded));
+        assertThat(hashing.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("password", encoded));
+        while (passwordEncoder.getQueueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> passwordEncoder.matches("password", encoded)).isInstanceOf(PasswordHashingBusyException.class);
+
+        release.countDown();
+        assertThat(blocking.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isFalse();
+        assertThat(busyRejections()).isEqualTo(1);
+    }
+
+    private double busyRejections() {
+        return meterRegistry
+            .get(SecurityMetersService.REJECTED_LOGINS_METER_NAME)
+            .tag(SecurityMetersService.REJECTED_LOGINS_METER_REASON_DIMENSION, "hashing-busy")
+            .counter()
+            .count();
+    }
+}
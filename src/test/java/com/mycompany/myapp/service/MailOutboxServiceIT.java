@@ -0,0 +1,178 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.MailOutboxEntry;
+import com.mycompany.myapp.domain.enumeration.MailStatus;
+import com.mycompany.myapp.repository.MailOutboxEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Integration tests for {@link MailOutboxService}, sending to an in-process SMTP server.
+ */
+@IntegrationTest
+@Transactional
+class MailOutboxServiceIT {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private MailOutboxEntryRepository mailOutboxEntryRepository;
+
+    @Autowired
+    private JHipsterProperties jHipsterProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @BeforeEach
+    void setup() {
+        mailOutboxEntryRepository.deleteAll();
+        applicationProperties.getMail().setBatchSize(2);
+    }
+
+    @Test
+    void drainSendsEachBatchOverOneConnection() throws Exception {
+        MailOutboxService mailOutboxService = createMailOutboxService(greenMail.getSmtp().getPort());
+        for (int i = 0; i < 3; i++) {
+            mailService.sendEmail("john.doe" + i + "@example.com", "testSubject" + i, "testContent", false, false);
+        }
+
+        assertThat(mailOutboxService.drain()).isEqualTo(3);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("testSubject0");
+        assertThat(received[0].getAllRecipients()[0]).hasToString("john.doe0@example.com");
+        assertThat(received[0].getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
+        assertThat(connections).hasValue(2);
+        assertThat(mailOutboxEntryRepository.count()).isZero();
+        assertThat(deliveries("sent")).isEqualTo(3);
+        assertThat(meterRegistry.get(MailOutboxService.DEPTH_METER_NAME).gauge().value()).isZero();
+    }
+
+    @Test
+    void drainRetriesWithBackoffWhileServerIsUnavailable() throws Exception {
+        MailOutboxService unavailable = createMailOutboxService(unusedPort());
+        mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+        Instant before = Instant.now();
+
+        assertThat(unavailable.drain()).isZero();
+
+        MailOutboxEntry mail = mailOutboxEntryRepository.findAll().get(0);
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getNextAttemptAt()).isAfterOrEqualTo(before.plusMillis(applicationProperties.getMail().getInitialBackoffMs()));
+        assertThat(mail.getLastError()).isNotBlank();
+        assertThat(deliveries("retried")).isEqualTo(1);
+        assertThat(meterRegistry.get(MailOutboxService.DEPTH_METER_NAME).gauge().value()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        // Once the backoff has elapsed and the server is back
+        mailOutboxEntryRepository.saveAndFlush(mail.nextAttemptAt(Instant.now()));
+        assertThat(createMailOutboxService(greenMail.getSmtp().getPort()).drain()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(mailOutboxEntryRepository.count()).isZero();
+    }
+
+    @Test
+    void drainGivesUpOnInvalidAddresses() {
+        MailOutboxService mailOutboxService = createMailOutboxService(greenMail.getSmtp().getPort());
+        mailService.sendEmail("not an address", "testSubject", "testContent", false, false);
+        mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+
+        assertThat(mailOutboxService.drain()).isEqualTo(1);
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(mailOutboxEntryRepository.findAll())
+            .singleElement()
+            .satisfies(mail -> {
+                assertThat(mail.getRecipient()).isEqualTo("not an address");
+                assertThat(mail.getStatus()).isEqualTo(MailStatus.FAILED);
+            });
+        assertThat(deliveries("abandoned")).isEqualTo(1);
+    }
+
+    @Test
+    void prunesMailsGivenUpOnAfterRetention() {
+        applicationProperties.getMail().setPruneChunkSize(1);
+        MailOutboxService mailOutboxService = createMailOutboxService(greenMail.getSmtp().getPort());
+        mailService.sendEmail("not an address", "testSubject", "testContent", false, false);
+        mailService.sendEmail("still not an address", "testSubject", "testContent", false, false);
+        mailOutboxService.drain();
+        mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+
+        assertThat(mailOutboxService.prune()).isZero();
+        assertThat(mailOutboxEntryRepository.countByStatus(MailStatus.FAILED)).isEqualTo(2);
+
+        applicationProperties.getMail().setFailedRetentionMs(-60000);
+        assertThat(mailOutboxService.prune()).isEqualTo(2);
+        assertThat(mailOutboxEntryRepository.findAll())
+            .singleElement()
+            .satisfies(mail -> assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING));
+    }
+
+    private MailOutboxService createMailOutboxService(int port) {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl() {
+            @Override
+            protected Transport connectTransport() throws MessagingException {
+                connections.incrementAndGet();
+                return super.connectTransport();
+            }
+        };
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(port);
+        return new MailOutboxService(
+            mailOutboxEntryRepository,
+            javaMailSender,
+            jHipsterProperties,
+            applicationProperties,
+            transactionManager,
+            meterRegistry
+        );
+    }
+
+    private double deliveries(String outcome) {
+        return meterRegistry
+            .get(MailOutboxService.DELIVERIES_METER_NAME)
+            .tag(MailOutboxService.DELIVERIES_METER_OUTCOME_DIMENSION, outcome)
+            .counter()
+            .count();
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
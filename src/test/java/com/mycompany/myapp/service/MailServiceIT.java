@@ -5,8 +5,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.config.Constants;
+import com.mycompany.myapp.domain.MailOutboxEntry;
 import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.MailStatus;
+import com.mycompany.myapp.repository.MailOutboxEntryRepository;
 import jakarta.mail.Multipart;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeBodyPart;
@@ -18,6 +22,7 @@ import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,12 +34,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
 import tech.jhipster.config.JHipsterProperties;
 
 /**
- * Integration tests for {@link MailService}.
+ * Integration tests for {@link MailService} and {@link MailOutboxService}.
  */
 @IntegrationTest
+@Transactional
 class MailServiceIT {
 
     private static final String[] languages = {
@@ -46,26 +53,60 @@ class MailServiceIT {
     @Autowired
     private JHipsterProperties jHipsterProperties;
 
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     @MockitoBean
     private JavaMailSender javaMailSender;
 
     @Captor
-    private ArgumentCaptor<MimeMessage> messageCaptor;
+    private ArgumentCaptor<MimeMessage[]> messagesCaptor;
 
     @Autowired
     private MailService mailService;
 
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxEntryRepository mailOutboxEntryRepository;
+
     @BeforeEach
     void setup() {
-        doNothing().when(javaMailSender).send(any(MimeMessage.class));
-        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        mailOutboxEntryRepository.deleteAll();
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    /**
+     * Send the queued mails, expecting a single one.
+     */
+    private MimeMessage sentMessage() {
+        assertThat(mailOutboxService.drain()).isEqualTo(1);
+        verify(javaMailSender).send(messagesCaptor.capture());
+        assertThat(messagesCaptor.getValue()).hasSize(1);
+        return messagesCaptor.getValue()[0];
+    }
+
+    @Test
+    void testSendEmailIsQueuedUntilDrained() {
+        mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+        verify(javaMailSender, never()).send(any(MimeMessage[].class));
+        assertThat(mailOutboxEntryRepository.findAll())
+            .singleElement()
+            .satisfies(mail -> {
+                assertThat(mail.getRecipient()).isEqualTo("john.doe@example.com");
+                assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+                assertThat(mail.getAttempts()).isZero();
+            });
+
+        assertThat(mailOutboxService.drain()).isEqualTo(1);
+        assertThat(mailOutboxEntryRepository.count()).isZero();
     }
 
     @Test
     void testSendEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = sentMessage();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("john.doe@example.com");
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -77,8 +118,7 @@ class MailServiceIT {
     @Test
     void testSendHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, true);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = sentMessage();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("john.doe@example.com");
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -90,8 +130,7 @@ class MailServiceIT {
     @Test
     void testSendMultipartEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, false);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = sentMessage();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
         ByteArrayOutputStream aos = new ByteArrayOutputStream();
@@ -107,8 +146,7 @@ class MailServiceIT {
     @Test
     void testSendMultipartHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, true);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = sentMessage();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
         ByteArrayOutputStream aos = new ByteArrayOutputStream();
@@ -128,8 +166,7 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = sentMessage();
         assertThat(message.getSubject()).isEqualTo("test title");
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -144,8 +181,7 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendActivationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = sentMessage();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -159,8 +195,7 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendCreationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = sentMessage();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -174,8 +209,7 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendPasswordResetMail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
-        MimeMessage message = messageCaptor.getValue();
+        MimeMessage message = sentMessage();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
         assertThat(message.getContent().toString()).isNotEmpty();
@@ -184,12 +218,43 @@ class MailServiceIT {
 
     @Test
     void testSendEmailWithException() {
-        doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage.class));
+        doThrow(new MailSendException("Mail server connection failed")).when(javaMailSender).send(any(MimeMessage[].class));
+        Instant before = Instant.now();
         try {
             mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+            assertThat(mailOutboxService.drain()).isZero();
         } catch (Exception e) {
             fail("Exception shouldn't have been thrown");
         }
+        assertThat(mailOutboxEntryRepository.findAll())
+            .singleElement()
+            .satisfies(mail -> {
+                assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+                assertThat(mail.getAttempts()).isEqualTo(1);
+                assertThat(mail.getNextAttemptAt()).isAfter(before);
+                assertThat(mail.getLastError()).contains("Mail server connection failed");
+            });
+
+        // Backing off: the mail is not attempted again right away
+        assertThat(mailOutboxService.drain()).isZero();
+        verify(javaMailSender, times(1)).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    void testSendEmailGivesUpAfterMaxAttempts() {
+        doThrow(new MailSendException("Mail server connection failed")).when(javaMailSender).send(any(MimeMessage[].class));
+        mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+        MailOutboxEntry mail = mailOutboxEntryRepository.findAll().get(0);
+        mailOutboxEntryRepository.saveAndFlush(mail.attempts(applicationProperties.getMail().getMaxAttempts() - 1));
+
+        mailOutboxService.drain();
+
+        assertThat(mailOutboxEntryRepository.findById(mail.getId()))
+            .get()
+            .satisfies(failed -> {
+                assertThat(failed.getStatus()).isEqualTo(MailStatus.FAILED);
+                assertThat(failed.getAttempts()).isEqualTo(applicationProperties.getMail().getMaxAttempts());
+            });
     }
 
     @Test
@@ -200,8 +265,9 @@ class MailServiceIT {
         for (String langKey : languages) {
             user.setLangKey(langKey);
             mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-            verify(javaMailSender, atLeastOnce()).send(messageCaptor.capture());
-            MimeMessage message = messageCaptor.getValue();
+            mailOutboxService.drain();
+            verify(javaMailSender, atLeastOnce()).send(messagesCaptor.capture());
+            MimeMessage message = messagesCaptor.getValue()[0];
 
             String propertyFilePath = "i18n/messages_" + getMessageSourceSuffixForLanguage(langKey) + ".properties";
             URL resource = this.getClass().getClassLoader().getResource(propertyFilePath);
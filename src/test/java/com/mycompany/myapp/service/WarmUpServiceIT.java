@@ -0,0 +1,161 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.TicketCategory;
+import com.mycompany.myapp.domain.TicketPriority;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.TicketCategoryRepository;
+import com.mycompany.myapp.repository.TicketPriorityRepository;
+import com.mycompany.myapp.repository.TicketRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.DomainUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link WarmUpService}.
+ */
+@IntegrationTest
+@Transactional
+class WarmUpServiceIT {
+
+    @Autowired
+    private TicketCategoryRepository ticketCategoryRepository;
+
+    @Autowired
+    private TicketPriorityRepository ticketPriorityRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketQueryService ticketQueryService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        user = new User();
+        user.setLogin("warm-up-" + RandomStringUtils.insecure().nextAlphabetic(5).toLowerCase());
+        user.setPassword(RandomStringUtils.insecure().nextAlphanumeric(60));
+        user.setActivated(true);
+        user.setEmail(user.getLogin() + "@localhost");
+        user = userRepository.saveAndFlush(user);
+        TicketCategory category = ticketCategoryRepository.saveAndFlush(new TicketCategory().name("warm-up"));
+        TicketPriority priority = ticketPriorityRepository.saveAndFlush(new TicketPriority().name("warm-up"));
+        Instant creationDate = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            ticketRepository.saveAndFlush(
+                new Ticket()
+                    .title("Ticket " + i)
+                    .description("Ticket warmed up at startup " + i)
+                    .creationDate(creationDate.plusSeconds(i))
+                    .category(category)
+                    .priority(priority)
+                    .user(user)
+            );
+        }
+        applicationProperties.getWarmUp().setPageSize(2);
+        clearCaches();
+    }
+
+    @AfterEach
+    void clearCaches() {
+        // The users created by the tests are rolled back
+        cacheManager.getCache(DomainUserDetailsService.PRINCIPALS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+    }
+
+    @Test
+    void warmUpLoadsTicketsAndTheirUsers() {
+        Map<String, Long> entries = createWarmUpService().warmUp();
+
+        assertThat(entries).containsOnlyKeys(
+            WarmUpService.REFERENCE_DATA_STEP,
+            WarmUpService.TICKET_PAGES_STEP,
+            WarmUpService.PRINCIPALS_STEP,
+            WarmUpService.QUERIES_STEP
+        );
+        assertThat(entries.get(WarmUpService.REFERENCE_DATA_STEP)).isGreaterThanOrEqualTo(2);
+        assertThat(entries.get(WarmUpService.TICKET_PAGES_STEP)).isGreaterThanOrEqualTo(3);
+        assertThat(entries.get(WarmUpService.PRINCIPALS_STEP)).isGreaterThanOrEqualTo(2);
+        assertThat(entries.get(WarmUpService.QUERIES_STEP)).isPositive();
+        assertThat(cacheManager.getCache(DomainUserDetailsService.PRINCIPALS_BY_LOGIN_CACHE).get(user.getLogin())).isNotNull();
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).get(user.getLogin())).isNotNull();
+
+        assertThat(meterRegistry.get(WarmUpService.DURATION_METER_NAME).timer().count()).isEqualTo(1);
+        double principals = meterRegistry
+            .get(WarmUpService.ENTRIES_METER_NAME)
+            .tag(WarmUpService.STEP_DIMENSION, WarmUpService.PRINCIPALS_STEP)
+            .counter()
+            .count();
+        assertThat(principals).isEqualTo(entries.get(WarmUpService.PRINCIPALS_STEP).doubleValue());
+        assertThat(meterRegistry.get(WarmUpService.STEP_DURATION_METER_NAME).timers()).hasSize(4);
+    }
+
+    @Test
+    void warmUpSkipsStepsOnceTooLong() {
+        applicationProperties.getWarmUp().setMaxDurationMs(0);
+
+        assertThat(createWarmUpService().warmUp()).isEmpty();
+        assertThat(meterRegistry.get(WarmUpService.DURATION_METER_NAME).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void warmUpCanBeDisabled() {
+        applicationProperties.getWarmUp().setEnabled(false);
+
+        createWarmUpService().onApplicationReady();
+
+        assertThat(meterRegistry.get(WarmUpService.DURATION_METER_NAME).timer().count()).isZero();
+    }
+
+    private WarmUpService createWarmUpService() {
+        return new WarmUpService(
+            ticketCategoryRepository,
+            ticketPriorityRepository,
+            ticketService,
+            ticketQueryService,
+            userRepository,
+            userDetailsService,
+            applicationProperties,
+            transactionManager,
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,138 @@
+package com.mycompany.myapp.web.rest;
+
+import static com.mycompany.myapp.security.SecurityUtils.USER_ID_CLAIM;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.TicketRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import java.time.Instant;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link AccountTicketResource} REST controller.
+ */
+@AutoConfigureMockMvc
+@IntegrationTest
+class AccountTicketResourceIT {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MockMvc restAccountTicketMockMvc;
+
+    private User user;
+
+    private Ticket oldest;
+
+    private Ticket middle;
+
+    private Ticket newest;
+
+    private Ticket otherUsersTicket;
+
+    @BeforeEach
+    void initTest() {
+        user = userRepository.findOneByLogin("user").orElseThrow();
+        User admin = userRepository.findOneByLogin("admin").orElseThrow();
+        oldest = createTicket(user, NOW.minusSeconds(120));
+        middle = createTicket(user, NOW.minusSeconds(60));
+        newest = createTicket(user, NOW);
+        otherUsersTicket = createTicket(admin, NOW);
+    }
+
+    @Test
+    @Transactional
+    void getAccountTicketsResolvesUserFromToken() throws Exception {
+        restAccountTicketMockMvc
+            .perform(get("/api/account/tickets").with(userToken()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "3"))
+            .andExpect(jsonPath("$", hasSize(3)))
+            .andExpect(jsonPath("$.[0].id").value(newest.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(middle.getId().intValue()))
+            .andExpect(jsonPath("$.[2].id").value(oldest.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser("user")
+    void getAccountTicketsWithoutUserIdClaim() throws Exception {
+        restAccountTicketMockMvc
+            .perform(get("/api/account/tickets"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(otherUsersTicket.getId().intValue()))))
+            .andExpect(jsonPath("$", hasSize(3)));
+    }
+
+    @Test
+    @Transactional
+    void getAccountTicketsByCursor() throws Exception {
+        String link = restAccountTicketMockMvc
+            .perform(get("/api/account/tickets?after=&size=2").with(userToken()))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$.[0].id").value(newest.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(middle.getId().intValue()))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+
+        Matcher next = Pattern.compile("<([^>]+)>").matcher(link);
+        next.find();
+        restAccountTicketMockMvc
+            .perform(get(next.group(1)).with(userToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$.[0].id").value(oldest.getId().intValue()))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    @Transactional
+    void getAccountTicketsWithInvalidCursor() throws Exception {
+        restAccountTicketMockMvc.perform(get("/api/account/tickets?after=not-a-cursor").with(userToken())).andExpect(status().isBadRequest());
+    }
+
+    private RequestPostProcessor userToken() {
+        return jwt().jwt(token -> token.subject(user.getLogin()).claim(USER_ID_CLAIM, user.getId()));
+    }
+
+    private Ticket createTicket(User owner, Instant creationDate) {
+        return ticketRepository.saveAndFlush(
+            new Ticket()
+                .title("Account ticket")
+                .description("A ticket reported by the account owner")
+                .creationDate(creationDate)
+                .status(TicketStatus.OPEN)
+                .user(owner)
+        );
+    }
+}
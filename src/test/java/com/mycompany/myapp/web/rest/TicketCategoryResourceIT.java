@@ -4,14 +4,18 @@ import static com.mycompany.myapp.domain.TicketCategoryAsserts.*;
 import static com.mycompany.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.ReferenceDataGeneration;
 import com.mycompany.myapp.domain.TicketCategory;
+import com.mycompany.myapp.repository.ReferenceDataGenerationRepository;
 import com.mycompany.myapp.repository.TicketCategoryRepository;
 import jakarta.persistence.EntityManager;
+import java.time.Instant;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -19,10 +23,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Integration tests for the {@link TicketCategoryResource} REST controller.
@@ -47,6 +54,15 @@ class TicketCategoryResourceIT {
     @Autowired
     private TicketCategoryRepository ticketCategoryRepository;
 
+    @Autowired
+    private ReferenceDataGenerationRepository referenceDataGenerationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
     private EntityManager em;
 
@@ -160,6 +176,119 @@ class TicketCategoryResourceIT {
             .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
     }
 
+    @Test
+    @Transactional
+    void getAllTicketCategoriesIsSecondLevelCached() throws Exception {
+        // Initialize the database
+        insertedTicketCategory = ticketCategoryRepository.saveAndFlush(ticketCategory);
+        Long committedId = ticketCategoryRepository
+            .findAll()
+            .stream()
+            .map(TicketCategory::getId)
+            .filter(id -> !id.equals(ticketCategory.getId()))
+            .findFirst()
+            .orElseThrow();
+        em.getEntityManagerFactory().getCache().evictAll();
+        em.clear();
+
+        // Loading the list puts every category in the second-level cache
+        restTicketCategoryMockMvc.perform(get(ENTITY_API_URL)).andExpect(status().isOk());
+        assertThat(em.getEntityManagerFactory().getCache().contains(TicketCategory.class, committedId)).isTrue();
+
+        // Writes through the API invalidate the cached list
+        restTicketCategoryMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, ticketCategory.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(createUpdatedEntity().id(ticketCategory.getId())))
+            )
+            .andExpect(status().isOk());
+
+        restTicketCategoryMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(hasItem(UPDATED_NAME)));
+    }
+
+    @Test
+    void getAllTicketCategoriesIsConditional() throws Exception {
+        String eTag = restTicketCategoryMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        // The list did not change
+        restTicketCategoryMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(content().string(""));
+
+        // A committed write through the API moves the generation of the list
+        byte[] created = restTicketCategoryMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(ticketCategory)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        insertedTicketCategory = om.readValue(created, TicketCategory.class);
+
+        restTicketCategoryMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(insertedTicketCategory.getId().intValue())));
+    }
+
+    @Test
+    void getAllTicketCategoriesFollowsWritesOfOtherNodes() throws Exception {
+        String eTag = restTicketCategoryMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Another node moves the shared generation when it writes to the list
+        referenceDataGenerationRepository.increment(ReferenceDataGeneration.TICKET_CATEGORIES, Instant.now());
+
+        restTicketCategoryMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    void getAllTicketCategoriesDoesNotServeCachedListsOfOlderGenerations() throws Exception {
+        // Not transactional: the list must be in the caches of this node, and the write must be committed
+        insertedTicketCategory = ticketCategoryRepository.saveAndFlush(ticketCategory);
+        String eTag = restTicketCategoryMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Another node renames the category, which does not invalidate the caches of this node
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.update("update ticket_category set name = ? where id = ?", UPDATED_NAME, insertedTicketCategory.getId())
+        );
+        referenceDataGenerationRepository.increment(ReferenceDataGeneration.TICKET_CATEGORIES, Instant.now());
+
+        restTicketCategoryMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(UPDATED_NAME)))
+            .andExpect(jsonPath("$.[*].name").value(not(hasItem(DEFAULT_NAME))));
+    }
+
     @Test
     @Transactional
     void getTicketCategory() throws Exception {
@@ -0,0 +1,227 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.TicketCategory;
+import com.mycompany.myapp.domain.TicketOutboxEntry;
+import com.mycompany.myapp.domain.TicketPriority;
+import com.mycompany.myapp.domain.enumeration.TicketChangeType;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.TicketCategoryRepository;
+import com.mycompany.myapp.repository.TicketOutboxEntryRepository;
+import com.mycompany.myapp.repository.TicketPriorityRepository;
+import com.mycompany.myapp.service.TicketOutboxService;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link TicketChangeResource} REST controller.
+ * <p>
+ * Not transactional: outbox entries are only relayed once committed.
+ */
+@AutoConfigureMockMvc
+@IntegrationTest
+@WithMockUser
+class TicketChangeResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/tickets";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TicketCategoryRepository ticketCategoryRepository;
+
+    @Autowired
+    private TicketPriorityRepository ticketPriorityRepository;
+
+    @Autowired
+    private TicketOutboxEntryRepository ticketOutboxEntryRepository;
+
+    @Autowired
+    private TicketOutboxService ticketOutboxService;
+
+    @Autowired
+    private MockMvc restTicketChangeMockMvc;
+
+    private TicketCategory category;
+
+    private TicketPriority priority;
+
+    @BeforeEach
+    void initTest() {
+        category = ticketCategoryRepository.saveAndFlush(new TicketCategory().name("Changes"));
+        priority = ticketPriorityRepository.saveAndFlush(new TicketPriority().name("Changes"));
+    }
+
+    @AfterEach
+    void cleanup() {
+        ticketCategoryRepository.deleteById(category.getId());
+        ticketPriorityRepository.deleteById(priority.getId());
+    }
+
+    @Test
+    void getTicketChangesAfterRelay() throws Exception {
+        ticketOutboxService.relay();
+        long after = ticketOutboxService.getLastSeq();
+
+        Ticket created = createTicket();
+        Ticket statusChange = new Ticket();
+        statusChange.setId(created.getId());
+        statusChange.setStatus(TicketStatus.RESOLVED);
+        restTicketChangeMockMvc
+            .perform(
+                patch(ENTITY_API_URL + "/{id}", created.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(statusChange))
+            )
+            .andExpect(status().isOk());
+        restTicketChangeMockMvc.perform(delete(ENTITY_API_URL + "/{id}", created.getId())).andExpect(status().isNoContent());
+
+        // Not numbered before being relayed
+        restTicketChangeMockMvc.perform(get(ENTITY_API_URL + "/changes?after=" + after)).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
+
+        assertThat(ticketOutboxService.relay()).isEqualTo(3);
+
+        restTicketChangeMockMvc
+            .perform(get(ENTITY_API_URL + "/changes?after=" + after + "&limit=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$.[0].seq").value(after + 1))
+            .andExpect(jsonPath("$.[0].ticketId").value(created.getId().intValue()))
+            .andExpect(jsonPath("$.[0].changeType").value(TicketChangeType.CREATED.toString()))
+            .andExpect(jsonPath("$.[0].ticket.title").value(created.getTitle()))
+            .andExpect(jsonPath("$.[1].seq").value(after + 2))
+            .andExpect(jsonPath("$.[1].changeType").value(TicketChangeType.UPDATED.toString()))
+            .andExpect(jsonPath("$.[1].ticket.status").value(TicketStatus.RESOLVED.toString()));
+        restTicketChangeMockMvc
+            .perform(get(ENTITY_API_URL + "/changes?after=" + (after + 2)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$.[0].seq").value(after + 3))
+            .andExpect(jsonPath("$.[0].changeType").value(TicketChangeType.DELETED.toString()))
+            .andExpect(jsonPath("$.[0].ticket.id").value(created.getId().intValue()));
+    }
+
+    @Test
+    void concurrentRelaysNumberEachChangeOnce() throws Exception {
+        ticketOutboxService.relay();
+        long after = ticketOutboxService.getLastSeq();
+        List<Ticket> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createTicket());
+        }
+
+        // As if relayed by two nodes at the same time
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        int relayed = 0;
+        try {
+            List<Callable<Integer>> relays = List.of(ticketOutboxService::relay, ticketOutboxService::relay);
+            for (Future<Integer> relay : executor.invokeAll(relays)) {
+                relayed += relay.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try {
+            assertThat(relayed).isEqualTo(created.size());
+            assertThat(ticketOutboxService.getLastSeq()).isEqualTo(after + created.size());
+            restTicketChangeMockMvc
+                .perform(get(ENTITY_API_URL + "/changes?after=" + after))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(created.size())))
+                .andExpect(jsonPath("$.[0].seq").value(after + 1))
+                .andExpect(jsonPath("$.[4].seq").value(after + 5));
+        } finally {
+            for (Ticket ticket : created) {
+                restTicketChangeMockMvc.perform(delete(ENTITY_API_URL + "/{id}", ticket.getId())).andExpect(status().isNoContent());
+            }
+        }
+    }
+
+    @Test
+    void getTicketChangesAfterPrunedChanges() throws Exception {
+        ticketOutboxService.relay();
+        ticketOutboxEntryRepository.deleteAll();
+        Instant longAgo = Instant.now().minus(30, ChronoUnit.DAYS);
+        ticketOutboxEntryRepository.save(relayedEntry(1L, longAgo));
+        ticketOutboxEntryRepository.save(relayedEntry(2L, longAgo));
+        ticketOutboxEntryRepository.save(relayedEntry(3L, Instant.now()));
+        try {
+            assertThat(ticketOutboxService.prune()).isEqualTo(2);
+
+            restTicketChangeMockMvc.perform(get(ENTITY_API_URL + "/changes?after=1")).andExpect(status().isGone());
+            restTicketChangeMockMvc
+                .perform(get(ENTITY_API_URL + "/changes?after=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$.[0].seq").value(3));
+            restTicketChangeMockMvc
+                .perform(get(ENTITY_API_URL + "/changes?after=0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        } finally {
+            ticketOutboxEntryRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void getTicketChangesWithInvalidLimit() throws Exception {
+        restTicketChangeMockMvc.perform(get(ENTITY_API_URL + "/changes?limit=0")).andExpect(status().isBadRequest());
+        restTicketChangeMockMvc.perform(get(ENTITY_API_URL + "/changes?limit=100000")).andExpect(status().isBadRequest());
+    }
+
+    private static TicketOutboxEntry relayedEntry(Long seq, Instant relayedAt) {
+        return new TicketOutboxEntry()
+            .seq(seq)
+            .ticketId(seq)
+            .changeType(TicketChangeType.CREATED)
+            .payload("{}")
+            .occurredAt(relayedAt)
+            .relayedAt(relayedAt);
+    }
+
+    private Ticket createTicket() throws Exception {
+        Ticket ticket = new Ticket()
+            .title("Change feed ticket")
+            .description("A ticket synced by downstream systems")
+            .creationDate(Instant.now())
+            .status(TicketStatus.OPEN)
+            .category(category)
+            .priority(priority);
+        return om.readValue(
+            restTicketChangeMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(ticket)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            Ticket.class
+        );
+    }
+}
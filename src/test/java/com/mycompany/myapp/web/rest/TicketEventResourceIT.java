@@ -0,0 +1,199 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.TicketCategory;
+import com.mycompany.myapp.domain.TicketPriority;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.TicketCategoryRepository;
+import com.mycompany.myapp.repository.TicketPriorityRepository;
+import com.mycompany.myapp.service.TicketEventService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the {@link TicketEventResource} REST controller.
+ * <p>
+ * Not transactional: events are only sent once the change is committed.
+ */
+@AutoConfigureMockMvc
+@IntegrationTest
+@WithMockUser
+class TicketEventResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/tickets";
+
+    private static final long TIMEOUT_MS = 5000;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TicketCategoryRepository ticketCategoryRepository;
+
+    @Autowired
+    private TicketPriorityRepository ticketPriorityRepository;
+
+    @Autowired
+    private TicketEventService ticketEventService;
+
+    @Autowired
+    private MockMvc restTicketEventMockMvc;
+
+    private TicketCategory category;
+
+    private TicketPriority priority;
+
+    private final List<MvcResult> subscriptions = new ArrayList<>();
+
+    @BeforeEach
+    void initTest() {
+        category = ticketCategoryRepository.saveAndFlush(new TicketCategory().name("Events"));
+        priority = ticketPriorityRepository.saveAndFlush(new TicketPriority().name("Events"));
+    }
+
+    @AfterEach
+    void cleanup() {
+        subscriptions.forEach(subscription -> subscription.getRequest().getAsyncContext().complete());
+        ticketCategoryRepository.deleteById(category.getId());
+        ticketPriorityRepository.deleteById(priority.getId());
+    }
+
+    @Test
+    void streamTicketEventsMatchingFilter() throws Exception {
+        MvcResult openTickets = subscribe(ENTITY_API_URL + "/events?status=OPEN&categoryId=" + category.getId());
+        MvcResult otherCategory = subscribe(ENTITY_API_URL + "/events?categoryId=" + (category.getId() + 1));
+        assertThat(ticketEventService.getSubscriberCount()).isGreaterThanOrEqualTo(2);
+
+        Ticket created = createTicket();
+        try {
+            awaitContent(openTickets, "event:CREATED");
+            assertThat(openTickets.getResponse().getContentAsString()).contains("\"id\":" + created.getId());
+
+            Ticket statusChange = new Ticket();
+            statusChange.setId(created.getId());
+            statusChange.setStatus(TicketStatus.CLOSED);
+            restTicketEventMockMvc
+                .perform(
+                    patch(ENTITY_API_URL + "/{id}", created.getId())
+                        .contentType("application/merge-patch+json")
+                        .content(om.writeValueAsBytes(statusChange))
+                )
+                .andExpect(status().isOk());
+
+            // The ticket leaves the view of the subscriber, which must hear about it
+            awaitContent(openTickets, "\"status\":\"CLOSED\"");
+
+            created.title("Reopened event ticket").status(TicketStatus.OPEN);
+            created.setVersion(null);
+            restTicketEventMockMvc
+                .perform(
+                    put(ENTITY_API_URL + "/{id}", created.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsBytes(created))
+                )
+                .andExpect(status().isOk());
+
+            // The ticket comes back into the view
+            awaitContent(openTickets, "Reopened event ticket");
+        } finally {
+            restTicketEventMockMvc.perform(delete(ENTITY_API_URL + "/{id}", created.getId())).andExpect(status().isNoContent());
+        }
+
+        // Updates know the previous category of the ticket, so none of its changes reach a subscriber of another one
+        assertThat(otherCategory.getResponse().getContentAsString())
+            .doesNotContain("event:CREATED")
+            .doesNotContain("event:UPDATED")
+            .doesNotContain("event:DELETED");
+    }
+
+    @Test
+    void streamTicketEventsAsksReconnectingClientsToResync() throws Exception {
+        MvcResult reconnected = restTicketEventMockMvc
+            .perform(get(ENTITY_API_URL + "/events").header("Last-Event-ID", "-1").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        subscriptions.add(reconnected);
+
+        awaitContent(reconnected, "event:" + TicketEventService.RESYNC_EVENT);
+    }
+
+    @Test
+    void streamTicketEventsResumesClientsThatMissedNothing() throws Exception {
+        MvcResult reconnected = restTicketEventMockMvc
+            .perform(get(ENTITY_API_URL + "/events").header("Last-Event-ID", "0").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        subscriptions.add(reconnected);
+        awaitContent(reconnected, "event:" + TicketEventService.RESYNC_EVENT);
+        // Ids are prefixed with the instance that sent them, so a bare sequence number never matches
+        String content = reconnected.getResponse().getContentAsString();
+        String lastEventId = content.substring(content.indexOf("id:") + 3, content.indexOf('\n', content.indexOf("id:")));
+        assertThat(lastEventId).contains("-");
+
+        MvcResult resumed = restTicketEventMockMvc
+            .perform(get(ENTITY_API_URL + "/events").header("Last-Event-ID", lastEventId).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        subscriptions.add(resumed);
+        awaitContent(resumed, ":heartbeat");
+        assertThat(resumed.getResponse().getContentAsString()).doesNotContain("event:" + TicketEventService.RESYNC_EVENT);
+    }
+
+    private MvcResult subscribe(String url) throws Exception {
+        MvcResult result = restTicketEventMockMvc
+            .perform(get(url).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        subscriptions.add(result);
+        awaitContent(result, ":heartbeat");
+        return result;
+    }
+
+    private Ticket createTicket() throws Exception {
+        Ticket ticket = new Ticket()
+            .title("Event ticket")
+            .description("A ticket streamed to subscribers")
+            .creationDate(Instant.now())
+            .status(TicketStatus.OPEN)
+            .category(category)
+            .priority(priority);
+        return om.readValue(
+            restTicketEventMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(ticket)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            Ticket.class
+        );
+    }
+
+    private static void awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!result.getResponse().getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(result.getResponse().getContentAsString()).contains(expected);
+    }
+}
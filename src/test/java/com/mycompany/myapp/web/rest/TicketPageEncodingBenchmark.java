@@ -0,0 +1,136 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mycompany.myapp.config.JacksonConfiguration;
+import com.mycompany.myapp.domain.Ticket;
+import com.mycompany.myapp.domain.TicketCategory;
+import com.mycompany.myapp.domain.TicketPriority;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmark of the encoding and decoding of a page of tickets in JSON, Smile and CBOR, with mappers built like the
+ * ones of the API from the modules of {@link JacksonConfiguration}. The size of the payload in each format is printed
+ * before its measurements.
+ * <p>
+ * Not run by the build; run the {@code main} method, or from the command line:
+ * <pre>
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/test-classpath.txt) com.mycompany.myapp.web.rest.TicketPageEncodingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketPageEncodingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "json", "smile", "cbor" })
+    private String format;
+
+    private ObjectMapper mapper;
+
+    private JavaType pageType;
+
+    private List<Ticket> page;
+
+    private byte[] encodedPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory =
+            switch (format) {
+                case "smile" -> new SmileFactory();
+                case "cbor" -> new CBORFactory();
+                default -> new JsonFactory();
+            };
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        // Spring Boot defaults of the mappers of the API
+        mapper = Jackson2ObjectMapperBuilder.json()
+            .factory(factory)
+            .modulesToInstall(
+                jacksonConfiguration.javaTimeModule(),
+                jacksonConfiguration.jdk8TimeModule(),
+                jacksonConfiguration.hibernate6Module()
+            )
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .build();
+        pageType = mapper.getTypeFactory().constructCollectionType(List.class, Ticket.class);
+        page = createPage();
+        encodedPage = mapper.writerFor(pageType).writeValueAsBytes(page);
+        System.out.printf("%n%s: %d bytes for a page of %d tickets%n", format, encodedPage.length, PAGE_SIZE);
+    }
+
+    private static List<Ticket> createPage() {
+        TicketCategory category = new TicketCategory().id(1L).name("Hardware");
+        TicketPriority priority = new TicketPriority().id(2L).name("HIGH");
+        Instant creationDate = Instant.parse("2024-03-01T09:00:00Z");
+        List<Ticket> tickets = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User user = new User();
+            user.setId(100L + i % 5);
+            user.setLogin("user-" + i % 5);
+            user.setFirstName("First" + i % 5);
+            user.setLastName("Last" + i % 5);
+            user.setEmail("user-" + i % 5 + "@localhost");
+            user.setActivated(true);
+            user.setLangKey("en");
+            Ticket ticket = new Ticket()
+                .id(1000L + i)
+                .title("Laptop does not boot after update " + i)
+                .description("After installing the latest updates, the laptop shows a black screen and restarts in a loop. " + i)
+                .creationDate(creationDate.plus(i, ChronoUnit.MINUTES))
+                .status(TicketStatus.values()[i % TicketStatus.values().length])
+                .category(category)
+                .priority(priority)
+                .user(user);
+            ticket.setVersion((long) i % 3);
+            tickets.add(ticket);
+        }
+        return tickets;
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writerFor(pageType).writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<Ticket> decode() throws IOException {
+        return mapper.readValue(encodedPage, pageType);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TicketPageEncodingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
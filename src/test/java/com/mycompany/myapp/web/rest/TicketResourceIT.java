@@ -1,12 +1,21 @@
 package com.mycompany.myapp.web.rest;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,19 +31,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Ticket;
@@ -44,11 +61,14 @@ import static com.mycompany.myapp.domain.TicketAsserts.assertTicketUpdatableFiel
 import com.mycompany.myapp.domain.TicketCategory;
 import com.mycompany.myapp.domain.TicketPriority;
 import com.mycompany.myapp.domain.enumeration.TicketStatus;
+import com.mycompany.myapp.repository.CapturingStatementInspector;
 import com.mycompany.myapp.repository.TicketCategoryRepository;
 import com.mycompany.myapp.repository.TicketPriorityRepository;
 import com.mycompany.myapp.repository.TicketRepository;
 import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
 import com.mycompany.myapp.service.TicketService;
+import com.mycompany.myapp.service.TicketStatsService;
 import static com.mycompany.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 
 import jakarta.persistence.EntityManager;
@@ -74,6 +94,8 @@ class TicketResourceIT {
     private static final TicketStatus DEFAULT_STATUS = TicketStatus.OPEN;
     private static final TicketStatus UPDATED_STATUS = TicketStatus.IN_PROGRESS;
 
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
     private static final String ENTITY_API_URL = "/api/tickets";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
@@ -95,12 +117,21 @@ class TicketResourceIT {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TicketStatsService ticketStatsService;
+
     @Mock
     private TicketRepository ticketRepositoryMock;
 
     @Mock
     private TicketService ticketServiceMock;
 
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
     @Autowired
     private EntityManager em;
 
@@ -169,7 +200,8 @@ class TicketResourceIT {
     @AfterEach
     void cleanup() {
         if (insertedTicket != null) {
-            ticketRepository.delete(insertedTicket);
+            // Conditional updates leave insertedTicket detached with a stale version
+            ticketRepository.deleteById(insertedTicket.getId());
             insertedTicket = null;
         }
 
@@ -205,6 +237,103 @@ class TicketResourceIT {
         insertedTicket = returnedTicket;
     }
 
+    @Test
+    @Transactional
+    void createTicketsInBatch() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        Ticket invalid = copyOf(ticket).title("AAA");
+
+        // Create the Tickets, the invalid one is reported without failing the others
+        String body = restTicketMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(List.of(copyOf(ticket), invalid, copyOf(ticket))))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].index").value(0))
+            .andExpect(jsonPath("$.[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.[1].index").value(1))
+            .andExpect(jsonPath("$.[1].status").value("FAILED"))
+            .andExpect(jsonPath("$.[1].error").isNotEmpty())
+            .andExpect(jsonPath("$.[2].index").value(2))
+            .andExpect(jsonPath("$.[2].status").value("CREATED"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        // Validate the Tickets in the database
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeCreate + 2);
+        List<Number> ids = com.jayway.jsonpath.JsonPath.read(body, "$[?(@.status == 'CREATED')].id");
+        ticketRepository.deleteAllById(ids.stream().map(Number::longValue).toList());
+    }
+
+    @Test
+    @Transactional
+    void createTicketsInBatchWithMalformedItem() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+
+        restTicketMockMvc
+            .perform(post(ENTITY_API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content("[{\"status\": \"UNKNOWN\"}]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].index").value(0))
+            .andExpect(jsonPath("$.[0].status").value("FAILED"));
+
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    void createTicketsInBatchWithItemRejectedByDatabase() throws Exception {
+        // Not transactional: each chunk commits on its own, which a test transaction would hide
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        TicketCategory missingCategory = new TicketCategory();
+        missingCategory.setId(Long.MAX_VALUE);
+        missingCategory.setName("MISSING");
+        Ticket rejected = copyOf(ticket);
+        rejected.setCategory(missingCategory);
+
+        // The invalid foreign key passes validation, fails the whole chunk, and only that ticket fails on retry
+        String body = restTicketMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(List.of(copyOf(ticket), rejected, copyOf(ticket))))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.[1].status").value("FAILED"))
+            .andExpect(jsonPath("$.[2].status").value("CREATED"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<Long> ids = com.jayway.jsonpath.JsonPath.<List<Number>>read(body, "$[?(@.status == 'CREATED')].id")
+            .stream()
+            .map(Number::longValue)
+            .toList();
+        try {
+            // Validate the other Tickets of the chunk were committed
+            assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeCreate + 2);
+            assertThat(ticketRepository.findAllById(ids)).hasSize(2);
+        } finally {
+            ticketRepository.deleteAllById(ids);
+        }
+    }
+
+    @Test
+    @Transactional
+    void createTicketsWithPreallocatedIds() throws Exception {
+        Ticket first = ticketRepository.save(copyOf(ticket));
+        Ticket second = ticketRepository.save(copyOf(ticket));
+
+        // Ids are known before flush and come from the same allocated block
+        assertThat(first.getId()).isGreaterThanOrEqualTo(1500L);
+        assertThat(second.getId()).isEqualTo(first.getId() + 1);
+
+        ticketRepository.flush();
+        ticketRepository.deleteAll(List.of(first, second));
+    }
+
     @Test
     @Transactional
     void createTicketWithExistingId() throws Exception {
@@ -272,6 +401,416 @@ class TicketResourceIT {
             .andExpect(jsonPath("$.[*].status").value(hasItem(DEFAULT_STATUS.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllTicketsByStatusIsInShouldWork() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        defaultTicketFiltering("status.in=" + DEFAULT_STATUS + "," + UPDATED_STATUS, "status.in=" + UPDATED_STATUS);
+    }
+
+    @Test
+    @Transactional
+    void getAllTicketsByCreationDateIsInRangeShouldWork() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        defaultTicketFiltering(
+            "creationDate.greaterThanOrEqual=" + DEFAULT_CREATION_DATE + "&creationDate.lessThan=" + UPDATED_CREATION_DATE,
+            "creationDate.greaterThan=" + DEFAULT_CREATION_DATE + "&creationDate.lessThan=" + UPDATED_CREATION_DATE
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllTicketsByCategoryIsEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        defaultTicketFiltering("categoryId.equals=" + ticket.getCategory().getId(), "categoryId.equals=" + Long.MAX_VALUE);
+    }
+
+    @Test
+    @Transactional
+    void getAllTicketsByPriorityIsEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        defaultTicketFiltering("priorityId.equals=" + ticket.getPriority().getId(), "priorityId.equals=" + Long.MAX_VALUE);
+    }
+
+    @Test
+    @Transactional
+    void getAllTicketsByUserLoginIsEqualToSomething() throws Exception {
+        // Initialize the database
+        ticket.setUser(userRepository.findOneByLogin("user").orElseThrow());
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        defaultTicketFiltering("userLogin.equals=user", "userLogin.equals=admin");
+        defaultTicketShouldNotBeFound("userLogin.specified=false");
+    }
+
+    /**
+     * Executes the search with the given filters, scoped to the inserted ticket, and checks that it is returned by the first
+     * and not by the second.
+     */
+    private void defaultTicketFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultTicketShouldBeFound(shouldBeFound);
+        defaultTicketShouldNotBeFound(shouldNotBeFound);
+    }
+
+    private void defaultTicketShouldBeFound(String filter) throws Exception {
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + ticket.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(ticket.getId().intValue())))
+            .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
+            .andExpect(jsonPath("$.[*].category.name").value(hasItem("TEST")));
+
+        // Check, that the count call also returns 1
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + ticket.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"));
+    }
+
+    private void defaultTicketShouldNotBeFound(String filter) throws Exception {
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + ticket.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + ticket.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().string("0"));
+    }
+
+    @Test
+    void searchTicketsAfterCommit() throws Exception {
+        // Not transactional: the search index is only updated once the ticket is committed
+        Ticket created = om.readValue(
+            restTicketMockMvc
+                .perform(
+                    post(ENTITY_API_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsBytes(copyOf(ticket).title("Printer jammed on floor three")))
+                )
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            Ticket.class
+        );
+
+        try {
+            restTicketMockMvc
+                .perform(get(ENTITY_API_URL + "/_search?q=printer jammed"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$.[0].id").value(created.getId().intValue()))
+                .andExpect(jsonPath("$.[0].status").value(DEFAULT_STATUS.toString()))
+                .andExpect(jsonPath("$.[0].titleHighlight").value("<em>Printer</em> <em>jammed</em> on floor three"));
+        } finally {
+            restTicketMockMvc.perform(delete(ENTITY_API_URL_ID, created.getId())).andExpect(status().isNoContent());
+        }
+
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "/_search?q=printer jammed"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"));
+    }
+
+    @Test
+    void exportTicketsAsCsv() throws Exception {
+        // Not transactional: the export reads committed tickets on its own connection
+        Ticket quoted = ticketRepository.saveAndFlush(copyOf(ticket).title("Screen \"flickers\", then dies"));
+        Ticket other = ticketRepository.saveAndFlush(copyOf(ticket).status(UPDATED_STATUS));
+        try {
+            MvcResult result = restTicketMockMvc
+                .perform(
+                    get(ENTITY_API_URL + "/export?format=csv&id.in=" + quoted.getId() + "," + other.getId())
+                        // Explicitly refused, though named
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            String csv = restTicketMockMvc
+                .perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("tickets.csv")))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+            String relationships = String.join(
+                ",",
+                ticket.getCategory().getId().toString(),
+                ticket.getCategory().getName(),
+                ticket.getPriority().getId().toString(),
+                ticket.getPriority().getName(),
+                ""
+            );
+            assertThat(csv.split("\r\n")).containsExactly(
+                "id,title,description,creationDate,status,categoryId,categoryName,priorityId,priorityName,userLogin",
+                quoted.getId() + ",\"Screen \"\"flickers\"\", then dies\"," + DEFAULT_DESCRIPTION + "," + DEFAULT_CREATION_DATE + "," + DEFAULT_STATUS + "," + relationships,
+                other.getId() + "," + DEFAULT_TITLE + "," + DEFAULT_DESCRIPTION + "," + DEFAULT_CREATION_DATE + "," + UPDATED_STATUS + "," + relationships
+            );
+        } finally {
+            ticketRepository.deleteAllById(List.of(quoted.getId(), other.getId()));
+        }
+    }
+
+    @Test
+    void exportTicketsAsGzippedNdjson() throws Exception {
+        Ticket exported = ticketRepository.saveAndFlush(copyOf(ticket));
+        Ticket filteredOut = ticketRepository.saveAndFlush(copyOf(ticket).status(UPDATED_STATUS));
+        try {
+            MvcResult result = restTicketMockMvc
+                .perform(
+                    get(ENTITY_API_URL + "/export?format=ndjson&status.equals=" + DEFAULT_STATUS + "&id.in=" + exported.getId() + "," + filteredOut.getId())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            byte[] body = restTicketMockMvc
+                .perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+            String ndjson;
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            assertThat(ndjson).endsWith("\n");
+            String[] lines = ndjson.split("\n");
+            assertThat(lines).hasSize(1);
+            JsonNode line = om.readTree(lines[0]);
+            assertThat(line.get("id").asLong()).isEqualTo(exported.getId());
+            assertThat(line.get("title").asText()).isEqualTo(DEFAULT_TITLE);
+            assertThat(line.get("creationDate").asText()).isEqualTo(DEFAULT_CREATION_DATE.toString());
+            assertThat(line.get("status").asText()).isEqualTo(DEFAULT_STATUS.toString());
+            assertThat(line.get("categoryId").asLong()).isEqualTo(ticket.getCategory().getId());
+            assertThat(line.get("userLogin").isNull()).isTrue();
+        } finally {
+            ticketRepository.deleteAllById(List.of(exported.getId(), filteredOut.getId()));
+        }
+    }
+
+    @Test
+    void exportTicketsWithUnsupportedFormat() throws Exception {
+        restTicketMockMvc.perform(get(ENTITY_API_URL + "/export?format=xlsx")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ticketStatsFollowCommittedChanges() throws Exception {
+        // Not transactional: the counters are only moved once the change is committed
+        long defaultStatusCount = statsCount(DEFAULT_STATUS);
+        long updatedStatusCount = statsCount(UPDATED_STATUS);
+        Ticket created = om.readValue(
+            restTicketMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(copyOf(ticket))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            Ticket.class
+        );
+
+        try {
+            assertThat(statsCount(DEFAULT_STATUS)).isEqualTo(defaultStatusCount + 1);
+
+            Ticket statusChange = new Ticket();
+            statusChange.setId(created.getId());
+            statusChange.setStatus(UPDATED_STATUS);
+            List<String> statements = CapturingStatementInspector.capture(() -> {
+                try {
+                    restTicketMockMvc
+                        .perform(
+                            patch(ENTITY_API_URL_ID, created.getId())
+                                .contentType("application/merge-patch+json")
+                                .content(om.writeValueAsBytes(statusChange))
+                        )
+                        .andExpect(status().isOk());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // The previous status is read under the row lock, so the counters follow without a reconciliation
+            assertThat(statements.get(0)).containsIgnoringCase("for update").doesNotContain("ticket_category");
+            assertThat(statsCount(DEFAULT_STATUS)).isEqualTo(defaultStatusCount);
+            assertThat(statsCount(UPDATED_STATUS)).isEqualTo(updatedStatusCount + 1);
+
+            Ticket replacement = copyOf(ticket);
+            replacement.setId(created.getId());
+            restTicketMockMvc
+                .perform(
+                    put(ENTITY_API_URL_ID, created.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(replacement))
+                )
+                .andExpect(status().isOk());
+
+            assertThat(statsCount(DEFAULT_STATUS)).isEqualTo(defaultStatusCount + 1);
+            assertThat(statsCount(UPDATED_STATUS)).isEqualTo(updatedStatusCount);
+        } finally {
+            restTicketMockMvc.perform(delete(ENTITY_API_URL_ID, created.getId())).andExpect(status().isNoContent());
+        }
+
+        assertThat(statsCount(DEFAULT_STATUS)).isEqualTo(defaultStatusCount);
+        assertThat(statsCount(UPDATED_STATUS)).isEqualTo(updatedStatusCount);
+    }
+
+    @Test
+    void ticketStatsAreReconciledWithDatabase() throws Exception {
+        ticketStatsService.reconcile();
+        long defaultStatusCount = statsCount(DEFAULT_STATUS);
+
+        // Saved without TicketService, so the counters do not see it until the next reconciliation
+        Ticket unseen = ticketRepository.saveAndFlush(copyOf(ticket));
+        try {
+            assertThat(statsCount(DEFAULT_STATUS)).isEqualTo(defaultStatusCount);
+            assertThat(ticketStatsService.reconcile()).isTrue();
+            assertThat(statsCount(DEFAULT_STATUS)).isEqualTo(defaultStatusCount + 1);
+            restTicketMockMvc
+                .perform(get(ENTITY_API_URL + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets.[*].status").value(hasItem(DEFAULT_STATUS.toString())));
+        } finally {
+            ticketRepository.deleteById(unseen.getId());
+        }
+
+        assertThat(ticketStatsService.reconcile()).isTrue();
+        assertThat(statsCount(DEFAULT_STATUS)).isEqualTo(defaultStatusCount);
+    }
+
+    private long statsCount(TicketStatus status) throws Exception {
+        String stats = restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "/stats"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return om.readTree(stats).path("byStatus").path(status.name()).asLong();
+    }
+
+    @Test
+    void searchTicketsWithInvalidQuery() throws Exception {
+        restTicketMockMvc.perform(get(ENTITY_API_URL + "/_search?q=title:(unbalanced")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void reindexTicketsIsForbiddenToUsers() throws Exception {
+        restTicketMockMvc.perform(post(ENTITY_API_URL + "/_reindex")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void reindexTickets() throws Exception {
+        restTicketMockMvc
+            .perform(post(ENTITY_API_URL + "/_reindex"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(String.valueOf(getRepositoryCount())));
+    }
+
+    @Test
+    @Transactional
+    void getAllTicketSummaries() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        // Get all the ticket summaries
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "/summaries?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[0].id").value(ticket.getId().intValue()))
+            .andExpect(jsonPath("$.[0].title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.[0].status").value(DEFAULT_STATUS.toString()))
+            .andExpect(jsonPath("$.[0].creationDate").value(DEFAULT_CREATION_DATE.toString()))
+            .andExpect(jsonPath("$.[0].categoryName").value(ticket.getCategory().getName()))
+            .andExpect(jsonPath("$.[0].priorityName").value(ticket.getPriority().getName()))
+            .andExpect(jsonPath("$.[0].description").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllTicketsByCursor() throws Exception {
+        // Initialize the database with tickets newer than any other one
+        Instant newest = Instant.parse("2999-01-01T00:00:00Z");
+        Ticket first = ticketRepository.saveAndFlush(copyOf(ticket).creationDate(newest));
+        Ticket second = ticketRepository.saveAndFlush(copyOf(ticket).creationDate(newest.minusSeconds(1)));
+        Ticket third = ticketRepository.saveAndFlush(copyOf(ticket).creationDate(newest.minusSeconds(1)));
+
+        // Get the first slice, which must link to the next one
+        String link = restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "?after=&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(first.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(third.getId().intValue()))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+
+        Matcher after = Pattern.compile("after=([^&>]+)").matcher(link);
+        assertThat(after.find()).isTrue();
+
+        // Follow the cursor: ties on creationDate are broken by id
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + after.group(1) + "&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(second.getId().intValue()));
+
+        ticketRepository.deleteAll(List.of(first, second, third));
+    }
+
+    @Test
+    @Transactional
+    void getAllTicketsByCursorWithCriteria() throws Exception {
+        // Initialize the database with tickets newer than any other one, the newest of which is filtered out
+        Instant newest = Instant.parse("2999-01-01T00:00:00Z");
+        Ticket filteredOut = ticketRepository.saveAndFlush(copyOf(ticket).creationDate(newest).status(DEFAULT_STATUS));
+        Ticket first = ticketRepository.saveAndFlush(copyOf(ticket).creationDate(newest.minusSeconds(1)).status(UPDATED_STATUS));
+        Ticket second = ticketRepository.saveAndFlush(copyOf(ticket).creationDate(newest.minusSeconds(2)).status(UPDATED_STATUS));
+
+        String link = restTicketMockMvc
+            .perform(get(ENTITY_API_URL + "?after=&size=1&status.equals=" + UPDATED_STATUS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(first.getId().intValue()))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+        assertThat(link).contains("status.equals=" + UPDATED_STATUS);
+
+        // The next link keeps the filters
+        restTicketMockMvc
+            .perform(get(link.substring(link.indexOf('<') + 1, link.indexOf('>'))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(second.getId().intValue()))
+            .andExpect(jsonPath("$.[*].status").value(everyItem(equalTo(UPDATED_STATUS.toString()))));
+
+        ticketRepository.deleteAll(List.of(filteredOut, first, second));
+    }
+
+    @Test
+    @Transactional
+    void getAllTicketsWithInvalidCursor() throws Exception {
+        restTicketMockMvc.perform(get(ENTITY_API_URL + "?after=not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllTicketsWithEagerRelationshipsIsEnabled() throws Exception {
         when(ticketServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -304,7 +843,164 @@ class TicketResourceIT {
             .andExpect(jsonPath("$.title").value(DEFAULT_TITLE))
             .andExpect(jsonPath("$.description").value(DEFAULT_DESCRIPTION))
             .andExpect(jsonPath("$.creationDate").value(DEFAULT_CREATION_DATE.toString()))
-            .andExpect(jsonPath("$.status").value(DEFAULT_STATUS.toString()));
+            .andExpect(jsonPath("$.status").value(DEFAULT_STATUS.toString()))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + ticket.getVersion() + "\""));
+    }
+
+    @Test
+    void getTicketReadsCategoryAndPriorityFromTheCache() throws Exception {
+        // Not transactional: a test transaction would keep them in its persistence context
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+        restTicketMockMvc.perform(get(ENTITY_API_URL_ID, ticket.getId())).andExpect(status().isOk());
+
+        List<String> statements = CapturingStatementInspector.capture(() -> {
+            try {
+                restTicketMockMvc
+                    .perform(get(ENTITY_API_URL_ID, ticket.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.category.name").value(ticket.getCategory().getName()))
+                    .andExpect(jsonPath("$.priority.name").value(ticket.getPriority().getName()));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(statements).isNotEmpty().noneMatch(sql -> sql.contains("ticket_category") || sql.contains("ticket_priority"));
+    }
+
+    @Test
+    @Transactional
+    void getTicketIsConditional() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+        String eTag = "\"" + ticket.getVersion() + "\"";
+
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, ticket.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+            .andExpect(content().string(""));
+
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, ticket.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"" + (ticket.getVersion() + 1) + "\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(jsonPath("$.id").value(ticket.getId().intValue()));
+
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getTicketIsConditionalPerFormat() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+        String jsonETag = "\"" + ticket.getVersion() + "\"";
+        String smileETag = "\"" + ticket.getVersion() + "-smile\"";
+
+        // Holding the JSON representation does not make the Smile one current
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, ticket.getId()).accept(APPLICATION_SMILE).header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, smileETag));
+
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, ticket.getId()).accept(APPLICATION_SMILE).header(HttpHeaders.IF_NONE_MATCH, smileETag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, smileETag));
+
+        restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, ticket.getId()).header(HttpHeaders.IF_NONE_MATCH, smileETag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, jsonETag));
+    }
+
+    @Test
+    @Transactional
+    void getTicketAsSmile() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        byte[] body = restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, ticket.getId()).accept(APPLICATION_SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(APPLICATION_SMILE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + ticket.getVersion() + "-smile\""))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        // Written like the JSON representation
+        JsonNode found = smileHttpMessageConverter.getObjectMapper().readTree(body);
+        Ticket persisted = ticketRepository.findOneWithEagerRelationships(ticket.getId()).orElseThrow();
+        assertThat(found).isEqualTo(om.readTree(om.writeValueAsBytes(persisted)));
+        assertThat(found.get("creationDate").asText()).isEqualTo(DEFAULT_CREATION_DATE.toString());
+    }
+
+    @Test
+    @Transactional
+    void getTicketAsCbor() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        byte[] body = restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, ticket.getId()).accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + ticket.getVersion() + "-cbor\""))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        Ticket found = cborHttpMessageConverter.getObjectMapper().readValue(body, Ticket.class);
+        assertThat(found.getId()).isEqualTo(ticket.getId());
+        assertThat(found.getTitle()).isEqualTo(DEFAULT_TITLE);
+        assertThat(found.getCreationDate()).isEqualTo(DEFAULT_CREATION_DATE);
+        assertThat(found.getCategory().getName()).isEqualTo(ticket.getCategory().getName());
+    }
+
+    @Test
+    @Transactional
+    void createTicketFromSmile() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+
+        byte[] body = restTicketMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .contentType(APPLICATION_SMILE)
+                    .accept(APPLICATION_SMILE)
+                    .content(smileHttpMessageConverter.getObjectMapper().writeValueAsBytes(ticket))
+            )
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        Ticket createdTicket = smileHttpMessageConverter.getObjectMapper().readValue(body, Ticket.class);
+
+        assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
+        assertTicketUpdatableFieldsEquals(ticket, getPersistedTicket(createdTicket));
+        insertedTicket = createdTicket;
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingTicketAsCbor() throws Exception {
+        byte[] body = restTicketMockMvc
+            .perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE).accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isNotFound())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        // Problem details are written like in JSON
+        JsonNode problem = cborHttpMessageConverter.getObjectMapper().readTree(body);
+        assertThat(problem.get("status").asInt()).isEqualTo(404);
+        assertThat(problem.get("title").asText()).isEqualTo("Not Found");
     }
 
     @Test
@@ -341,6 +1037,150 @@ class TicketResourceIT {
         assertPersistedTicketToMatchAllProperties(updatedTicket);
     }
 
+    @Test
+    @Transactional
+    void putTicketWithoutVersionReturnsStoredState() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+        long version = ticket.getVersion();
+
+        TicketCategory madeUpCategory = new TicketCategory();
+        madeUpCategory.setId(ticket.getCategory().getId());
+        madeUpCategory.setName("MADE UP");
+        Ticket updatedTicket = copyOf(ticket).title(UPDATED_TITLE).category(madeUpCategory);
+        updatedTicket.setId(ticket.getId());
+        updatedTicket.setVersion(null);
+
+        // An unconditional update still returns the new version, and the related entities as stored
+        restTicketMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedTicket.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedTicket))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+            .andExpect(jsonPath("$.version").value(version + 1))
+            .andExpect(jsonPath("$.title").value(UPDATED_TITLE))
+            .andExpect(jsonPath("$.category.name").value(ticket.getCategory().getName()));
+    }
+
+    @Test
+    @Transactional
+    void putTicketWithMatchingIfMatch() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+        long version = ticket.getVersion();
+
+        Ticket updatedTicket = copyOf(ticket).title(UPDATED_TITLE);
+        updatedTicket.setId(ticket.getId());
+        updatedTicket.setVersion(null);
+
+        restTicketMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedTicket.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedTicket))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+            .andExpect(jsonPath("$.version").value(version + 1));
+
+        assertThat(getPersistedTicket(ticket).getTitle()).isEqualTo(UPDATED_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void putTicketWithIfMatchOfAnotherFormat() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+        long version = ticket.getVersion();
+
+        Ticket updatedTicket = copyOf(ticket).title(UPDATED_TITLE);
+        updatedTicket.setId(ticket.getId());
+        updatedTicket.setVersion(null);
+
+        // The entity tag of the Smile representation holds the same version
+        restTicketMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedTicket.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "-smile\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(APPLICATION_SMILE)
+                    .content(om.writeValueAsBytes(updatedTicket))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "-smile\""));
+
+        assertThat(getPersistedTicket(ticket).getTitle()).isEqualTo(UPDATED_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void putTicketWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+        long version = ticket.getVersion();
+
+        Ticket updatedTicket = copyOf(ticket).title(UPDATED_TITLE);
+        updatedTicket.setId(ticket.getId());
+
+        restTicketMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedTicket.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (version + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedTicket))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(getPersistedTicket(ticket).getTitle()).isEqualTo(DEFAULT_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void putTicketWithStaleVersion() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        Ticket updatedTicket = copyOf(ticket).title(UPDATED_TITLE);
+        updatedTicket.setId(ticket.getId());
+        updatedTicket.setVersion(ticket.getVersion() + 1);
+
+        restTicketMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedTicket.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedTicket))
+            )
+            .andExpect(status().isConflict());
+
+        assertThat(getPersistedTicket(ticket).getTitle()).isEqualTo(DEFAULT_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void patchTicketWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        insertedTicket = ticketRepository.saveAndFlush(ticket);
+
+        Ticket partialUpdatedTicket = new Ticket();
+        partialUpdatedTicket.setId(ticket.getId());
+        partialUpdatedTicket.title(UPDATED_TITLE);
+
+        restTicketMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedTicket.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (ticket.getVersion() + 1) + "\"")
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(partialUpdatedTicket))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(getPersistedTicket(ticket).getTitle()).isEqualTo(DEFAULT_TITLE);
+    }
+
     @Test
     @Transactional
     void putNonExistingTicket() throws Exception {
@@ -518,6 +1358,16 @@ class TicketResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    private static Ticket copyOf(Ticket ticket) {
+        return new Ticket()
+            .title(ticket.getTitle())
+            .description(ticket.getDescription())
+            .creationDate(ticket.getCreationDate())
+            .status(ticket.getStatus())
+            .category(ticket.getCategory())
+            .priority(ticket.getPriority());
+    }
+
     protected long getRepositoryCount() {
         return ticketRepository.count();
     }
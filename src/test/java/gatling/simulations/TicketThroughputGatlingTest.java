@@ -0,0 +1,79 @@
+package gatling.simulations;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.constantConcurrentUsers;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Throughput test comparing platform threads with the {@code virtual-threads} profile.
+ * <p>
+ * Unlike the entity tests, users do not pause: a fixed number of concurrent users keep the server busy with requests
+ * blocking on the database, and on queueing mails. Run it once against the application started with {@code ./mvnw},
+ * then once against the application started with {@code ./mvnw -Pvirtual-threads} on Java 21, with the same
+ * {@code users}, and compare the mean number of requests per second and the response time percentiles of the two
+ * reports:
+ * <pre>
+ * ./mvnw gatling:test -Dgatling.simulationClass=gatling.simulations.TicketThroughputGatlingTest -Dusers=400
+ * </pre>
+ *
+ * @see <a href="https://github.com/jhipster/generator-jhipster/tree/v8.11.0/generators/gatling#logging-tips">Logging tips</a>
+ */
+public class TicketThroughputGatlingTest extends Simulation {
+
+    String baseURL = Optional.ofNullable(System.getProperty("baseURL")).orElse("http://localhost:8080");
+
+    HttpProtocolBuilder httpConf = http
+        .baseUrl(baseURL)
+        .acceptHeader("*/*")
+        .acceptEncodingHeader("gzip, deflate")
+        .connectionHeader("keep-alive")
+        .userAgentHeader("Gatling");
+
+    Map<String, String> headersHttpAuthentication = Map.of("Content-Type", "application/json", "Accept", "application/json");
+
+    Map<String, String> headersHttpAuthenticated = Map.of("Accept", "application/json", "Authorization", "${access_token}");
+
+    ChainBuilder scn = exec(
+        http("Authentication")
+            .post("/api/authenticate")
+            .headers(headersHttpAuthentication)
+            .body(StringBody("{\"username\":\"admin\", \"password\":\"admin\"}"))
+            .asJson()
+            .check(header("Authorization").saveAs("access_token"))
+    )
+        .exitHereIfFailed()
+        .repeat(Integer.getInteger("iterations", 50))
+        .on(
+            exec(http("Get all tickets").get("/api/tickets?page=0&size=20").headers(headersHttpAuthenticated).check(status().is(200)))
+                .exec(http("Get open tickets").get("/api/tickets?status.equals=OPEN&sort=creationDate,desc").headers(headersHttpAuthenticated).check(status().is(200)))
+                .exec(
+                    http("Request password reset")
+                        .post("/api/account/reset-password/init")
+                        .headers(headersHttpAuthentication)
+                        .body(StringBody("admin@localhost"))
+                        .check(status().is(200))
+                )
+        );
+
+    ScenarioBuilder users = scenario("Saturate the Ticket API").exec(scn);
+
+    {
+        setUp(
+            users.injectClosed(
+                constantConcurrentUsers(Integer.getInteger("users", 200)).during(Duration.ofMinutes(Integer.getInteger("duration", 2)))
+            )
+        ).protocols(httpConf);
+    }
+}
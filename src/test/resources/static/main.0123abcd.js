@@ -0,0 +1 @@
+(()=>{'use strict';console.log('static resource 0');console.log('static resource 1');console.log('static resource 2');console.log('static resource 3');console.log('static resource 4');console.log('static resource 5');console.log('static resource 6');console.log('static resource 7');console.log('static resource 8');console.log('static resource 9');console.log('static resource 10');console.log('static resource 11');console.log('static resource 12');console.log('static resource 13');console.log('static resource 14');console.log('static resource 15');console.log('static resource 16');console.log('static resource 17');console.log('static resource 18');console.log('static resource 19');console.log('static resource 20');console.log('static resource 21');console.log('static resource 22');console.log('static resource 23');console.log('static resource 24');console.log('static resource 25');console.log('static resource 26');console.log('static resource 27');console.log('static resource 28');console.log('static resource 29');console.log('static resource 30');console.log('static resource 31');console.log('static resource 32');console.log('static resource 33');console.log('static resource 34');console.log('static resource 35');console.log('static resource 36');console.log('static resource 37');console.log('static resource 38');console.log('static resource 39');console.log('static resource 40');console.log('static resource 41');console.log('static resource 42');console.log('static resource 43');console.log('static resource 44');console.log('static resource 45');console.log('static resource 46');console.log('static resource 47');console.log('static resource 48');console.log('static resource 49');console.log('static resource 50');console.log('static resource 51');console.log('static resource 52');console.log('static resource 53');console.log('static resource 54');console.log('static resource 55');console.log('static resource 56');console.log('static resource 57');console.log('static resource 58');console.log('static resource 59');console.log('static resource 60');console.log('static resource 61');console.log('static resource 62');console.log('static resource 63');console.log('static resource 64');console.log('static resource 65');console.log('static resource 66');console.log('static resource 67');console.log('static resource 68');console.log('static resource 69');console.log('static resource 70');console.log('static resource 71');console.log('static resource 72');console.log('static resource 73');console.log('static resource 74');console.log('static resource 75');console.log('static resource 76');console.log('static resource 77');console.log('static resource 78');console.log('static resource 79');})();
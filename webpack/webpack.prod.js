@@ -5,12 +5,50 @@ const WorkboxPlugin = require('workbox-webpack-plugin');
 const TerserPlugin = require('terser-webpack-plugin');
 const CssMinimizerPlugin = require('css-minimizer-webpack-plugin');
 const sass = require('sass');
+const zlib = require('zlib');
 
 const utils = require('./utils.js');
 const commonConfig = require('./webpack.common.js');
 
 const ENV = 'production';
 
+// Emits Brotli and gzip variants of the text assets, served by the backend to the clients accepting them
+class PrecompressPlugin {
+  apply(compiler) {
+    const { Compilation, sources } = compiler.webpack;
+    compiler.hooks.thisCompilation.tap('PrecompressPlugin', compilation => {
+      compilation.hooks.processAssets.tap(
+        { name: 'PrecompressPlugin', stage: Compilation.PROCESS_ASSETS_STAGE_OPTIMIZE_TRANSFER },
+        assets => {
+          for (const name of Object.keys(assets)) {
+            if (!/\.(js|css|svg|json|html)$/.test(name)) {
+              continue;
+            }
+            const content = compilation.getAsset(name).source.buffer();
+            if (content.length < 1024) {
+              continue;
+            }
+            const variants = {
+              br: zlib.brotliCompressSync(content, {
+                params: {
+                  [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+                  [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+                },
+              }),
+              gz: zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION }),
+            };
+            for (const [extension, compressed] of Object.entries(variants)) {
+              if (compressed.length < content.length) {
+                compilation.emitAsset(`${name}.${extension}`, new sources.RawSource(compressed), { compressed: true });
+              }
+            }
+          }
+        },
+      );
+    });
+  }
+}
+
 module.exports = async () =>
   webpackMerge(await commonConfig({ env: ENV }), {
     // devtool: 'source-map', // Enable source maps. Please note that this will slow down the build
@@ -106,7 +144,8 @@ module.exports = async () =>
       new WorkboxPlugin.GenerateSW({
         clientsClaim: true,
         skipWaiting: true,
-        exclude: [/swagger-ui/],
+        exclude: [/swagger-ui/, /\.(br|gz)$/],
       }),
+      new PrecompressPlugin(),
     ],
   });